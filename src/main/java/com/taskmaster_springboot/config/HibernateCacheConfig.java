@@ -0,0 +1,81 @@
+package com.taskmaster_springboot.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache regions, held in-process by Caffeine through JCache.
+ * <p>
+ * Each region is sized and expired with {@code app.cache.regions.<region>.max-size} and
+ * {@code .ttl}. Entities are cached read-write, so changes made through Hibernate (entity
+ * updates, JPQL bulk updates, native updates that declare their query spaces) evict the affected
+ * entries; rows changed outside Hibernate are only picked up once their entry expires.
+ * Hit/miss/put counts per region are published as {@code hibernate.second.level.cache.*} metrics.
+ */
+@Configuration
+@Slf4j
+public class HibernateCacheConfig {
+
+    // Region names used by the @Cache annotations of the entities
+    private static final String ROLES = "roles";
+    private static final String TEAMS = "teams";
+    private static final String PROJECTS = "projects";
+    private static final String USER_ROLES = "user-roles";
+
+    private static final String QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment) {
+        // A manager of its own rather than the provider's shared default, so every application
+        // context (e.g. several test contexts in one JVM) gets fresh regions
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        createRegion(cacheManager, environment, ROLES, 100, Duration.ofHours(1));
+        createRegion(cacheManager, environment, TEAMS, 10_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, environment, PROJECTS, 10_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, environment, USER_ROLES, 50_000, Duration.ofMinutes(10));
+        createRegion(cacheManager, environment, QUERY_RESULTS, 1_000, Duration.ofMinutes(10));
+
+        // Query results are validated against these per-table timestamps; an evicted timestamp
+        // would let a stale result pass, so this region is neither bounded nor expired
+        CaffeineConfiguration<Object, Object> timestamps = new CaffeineConfiguration<>();
+        cacheManager.createCache(UPDATE_TIMESTAMPS, timestamps);
+
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private void createRegion(CacheManager cacheManager, Environment environment,
+                              String region, long defaultMaxSize, Duration defaultTtl) {
+        String prefix = "app.cache.regions." + region;
+        long maxSize = environment.getProperty(prefix + ".max-size", Long.class, defaultMaxSize);
+        Duration ttl = environment.getProperty(prefix + ".ttl", Duration.class, defaultTtl);
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        cacheManager.createCache(region, configuration);
+        log.debug("Second-level cache region {}: max-size={}, ttl={}", region, maxSize, ttl);
+    }
+}
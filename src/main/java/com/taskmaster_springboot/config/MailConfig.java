@@ -0,0 +1,31 @@
+package com.taskmaster_springboot.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MailConfig {
+
+    /**
+     * Bounded pool the outbox dispatcher hands SMTP batches to; one batch per worker at a time.
+     * In virtual thread mode the workers are virtual threads, still bounded by the pool size.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailDispatchExecutor(@Value("${app.mail.outbox.workers:2}") int workers,
+                                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("mail-dispatch-", 1).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
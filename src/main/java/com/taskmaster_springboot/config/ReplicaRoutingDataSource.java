@@ -0,0 +1,248 @@
+package com.taskmaster_springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Connections for read-only transactions: from the replicas, round robin, skipping any that
+ * failed the last lag check or trailed the primary by more than the allowed lag, and from the
+ * primary when none qualifies.
+ * <p>
+ * After a request commits a read-write transaction, the response sets the
+ * {@value #PRIMARY_UNTIL_COOKIE} cookie to the end of the read-your-writes window, and every node
+ * sends the client's reads to the primary until then, so they see their own changes however far
+ * the replicas trail. Clients that drop the cookie, and work outside HTTP requests, may read data
+ * up to the allowed lag old. Read-only transactions do not fill the second-level cache (see
+ * {@link ReplicaDataSourceConfig}).
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource
+        implements TransactionExecutionListener, MeterBinder, DisposableBean {
+
+    // Seconds since the last replayed transaction, or 0 when the replica has replayed everything
+    // it received (an idle primary would otherwise look like growing lag) or is not a standby.
+    // NULL when the standby is not streaming from the primary: it then receives nothing, so
+    // having replayed all it received says nothing about its lag. The receiver's status is only
+    // shown to roles with pg_read_all_stats (e.g. via pg_monitor); for others it reads NULL and
+    // only a stopped receiver is detected.
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE coalesce(status, 'streaming') = 'streaming') THEN NULL " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE extract(epoch FROM now() - pg_last_xact_replay_timestamp()) END";
+    private static final String LAG_CHECK_TIMEOUT_SECONDS = "2";
+
+    // Epoch millis until which the client's reads go to the primary
+    static final String PRIMARY_UNTIL_COOKIE = "tm_primary_until";
+    // The same, for reads later in the request that wrote
+    private static final String PRIMARY_UNTIL_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".primaryUntil";
+    // Set while reads must not lag at all
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final Duration readYourWritesWindow;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas,
+                                    Duration maxLag, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    /**
+     * Runs the action with the connections of its read-only transactions taken from the primary,
+     * for reads that cannot tolerate any lag. Without replicas every read is on the primary anyway.
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        if (PRIMARY_READS.get() != null) {
+            return action.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    private DataSource select() {
+        if (PRIMARY_READS.get() != null || primaryUntil() > System.currentTimeMillis()) {
+            return primary;
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.usable) {
+                return replica.dataSource;
+            }
+        }
+        return primary;
+    }
+
+    /** Starts the read-your-writes window of the client whose request committed. */
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long until = System.currentTimeMillis() + readYourWritesWindow.toMillis();
+        HttpServletRequest request = attributes.getRequest();
+        request.setAttribute(PRIMARY_UNTIL_ATTRIBUTE, until);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(PRIMARY_UNTIL_COOKIE, Long.toString(until))
+                    .path("/")
+                    .maxAge(readYourWritesWindow)
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .build()
+                    .toString());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            double lag;
+            // A connection of its own with short timeouts: an unreachable replica would otherwise
+            // hold the check for the pool's whole connection timeout
+            try (Connection connection = DriverManager.getConnection(replica.dataSource.getJdbcUrl(), replica.probe);
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                lag = rs.getDouble(1);
+                if (rs.wasNull()) {
+                    lag = Double.NaN;
+                }
+            } catch (SQLException | RuntimeException e) {
+                log.debug("Lag check of {} failed", replica.name, e);
+                lag = Double.NaN;
+            }
+
+            boolean usable = lag <= maxLag.toMillis() / 1000.0;
+            if (usable != replica.usable) {
+                if (usable) {
+                    log.info("Replica {} in use (lag {} s)", replica.name, lag);
+                } else {
+                    log.warn("Replica {} out of use: {}", replica.name,
+                            Double.isNaN(lag) ? "unreachable" : "lag " + lag + " s");
+                    // Pooled connections may be dead; they are replaced once the replica is back
+                    HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+                    if (pool != null) {
+                        pool.softEvictConnections();
+                    }
+                }
+            }
+            replica.lagSeconds = lag;
+            replica.usable = usable;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .description("Replication lag at the last check; NaN when the replica could not be reached")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    // From this request's own write, else from the cookie a write on any node set; 0 outside requests
+    private static long primaryUntil() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return 0;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        if (request.getAttribute(PRIMARY_UNTIL_ATTRIBUTE) instanceof Long until) {
+            return until;
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final Properties probe = new Properties();
+        // Not used until a lag check has passed
+        private volatile boolean usable;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+            probe.putAll(dataSource.getDataSourceProperties());
+            probe.setProperty("user", dataSource.getUsername());
+            if (dataSource.getPassword() != null) {
+                probe.setProperty("password", dataSource.getPassword());
+            }
+            probe.setProperty("connectTimeout", LAG_CHECK_TIMEOUT_SECONDS);
+            probe.setProperty("loginTimeout", LAG_CHECK_TIMEOUT_SECONDS);
+            probe.setProperty("socketTimeout", LAG_CHECK_TIMEOUT_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmaster_springboot.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer, DisposableBean {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private SimpleAsyncTaskScheduler virtualScheduler;
+
+    /**
+     * In virtual thread mode each cron run gets its own virtual thread, so a long nightly job no
+     * longer holds up the others (fixed-delay jobs such as the outbox poll stay on the scheduler
+     * thread). Otherwise all jobs share Spring's default single scheduler thread.
+     */
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (virtualThreads) {
+            virtualScheduler = new SimpleAsyncTaskScheduler();
+            virtualScheduler.setVirtualThreads(true);
+            virtualScheduler.setThreadNamePrefix("scheduling-");
+            registrar.setScheduler(virtualScheduler);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (virtualScheduler != null) {
+            virtualScheduler.close();
+        }
+    }
+}
@@ -1,18 +1,116 @@
 package com.taskmaster_springboot.config;
 
+import com.taskmaster_springboot.security.StompAuthenticationInterceptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.time.Duration;
+
+/**
+ * STOMP endpoints and message broker. {@code app.websocket.broker} selects the broker:
+ * <ul>
+ *     <li>{@code simple} (default): in-memory broker, subscriptions live in this JVM only.</li>
+ *     <li>{@code relay}: relays /topic and /queue to an external STOMP broker (RabbitMQ, Artemis,
+ *     ...), and shares user sessions between nodes, so any instance can reach any subscriber.</li>
+ *     <li>{@code embedded}: same as relay, against an in-process Artemis broker on the relay
+ *     host/port. Meant for tests and single-box setups exercising the relay path.</li>
+ * </ul>
+ */
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+@Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+    private static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Value("${app.websocket.broker:simple}")
+    private String broker;
+
+    @Value("${app.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${app.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${app.websocket.heartbeat.send:10s}")
+    private Duration heartbeatSend;
+
+    @Value("${app.websocket.heartbeat.receive:10s}")
+    private Duration heartbeatReceive;
+
+    @Value("${app.websocket.inbound.pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${app.websocket.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${app.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${app.websocket.session.send-buffer-limit:512KB}")
+    private DataSize sendBufferLimit;
+
+    @Value("${app.websocket.session.send-time-limit:10s}")
+    private Duration sendTimeLimit;
+
+    @Value("${app.websocket.session.message-size-limit:64KB}")
+    private DataSize messageSizeLimit;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        long[] heartbeat = {heartbeatSend.toMillis(), heartbeatReceive.toMillis()};
+
+        if ("simple".equals(broker)) {
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(heartbeat)
+                    .setTaskScheduler(websocketHeartbeatScheduler());
+        } else if ("relay".equals(broker) || "embedded".equals(broker)) {
+            var relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeat[0])
+                    .setSystemHeartbeatReceiveInterval(heartbeat[1])
+                    .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST)
+                    .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST);
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP broker relay to {}:{}", relayHost, relayPort);
+        } else {
+            throw new IllegalArgumentException("Unknown app.websocket.broker: " + broker);
+        }
+
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -20,10 +118,91 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws/notifications")
                 .setAllowedOrigins("*")
-                .withSockJS();
+                .withSockJS()
+                .setHeartbeatTime(heartbeatSend.toMillis());
 
         registry.addEndpoint("/ws/tasks")
                 .setAllowedOrigins("*")
-                .withSockJS();
+                .withSockJS()
+                .setHeartbeatTime(heartbeatSend.toMillis());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthenticationInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    /**
+     * A session whose unsent frames exceed the buffer for longer than the send time limit is
+     * closed (SESSION_NOT_RELIABLE) instead of holding up the outbound pool.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit((int) sendBufferLimit.toBytes())
+                .setSendTimeLimit((int) sendTimeLimit.toMillis())
+                .setMessageSizeLimit((int) messageSizeLimit.toBytes());
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler websocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * Runs the coalescing timers and sends of the notification push fan-out, off the request threads.
+     * In virtual thread mode the workers are virtual threads, still bounded by the pool size.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler notificationFanoutScheduler(@Value("${app.notifications.push.workers:2}") int workers,
+                                                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(workers);
+        scheduler.setThreadNamePrefix("notification-fanout-");
+        if (virtualThreads) {
+            scheduler.setThreadFactory(Thread.ofVirtual().name("notification-fanout-", 1).factory());
+        }
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(10);
+        scheduler.initialize();
+        return scheduler;
+    }
+
+    /**
+     * In-process Artemis broker with a STOMP acceptor for {@code app.websocket.broker=embedded}.
+     * Non-persistent and unsecured, so it is not a production broker.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "app.websocket.broker", havingValue = "embedded")
+    static class EmbeddedBrokerConfig {
+
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        public EmbeddedActiveMQ embeddedStompBroker(@Value("${app.websocket.relay.host:localhost}") String host,
+                                                    @Value("${app.websocket.relay.port:61613}") int port) throws Exception {
+            ConfigurationImpl configuration = new ConfigurationImpl();
+            configuration.setPersistenceEnabled(false);
+            configuration.setSecurityEnabled(false);
+            configuration.setJMXManagementEnabled(false);
+            configuration.addAcceptorConfiguration("stomp", "tcp://" + host + ":" + port +
+                    "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/");
+
+            EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+            server.setConfiguration(configuration);
+            return server;
+        }
     }
 }
@@ -1,7 +1,9 @@
 package com.taskmaster_springboot.controller;
 
+import com.taskmaster_springboot.dto.request.ActivityLogFilterRequestDTO;
 import com.taskmaster_springboot.dto.response.ActivityLogResponseDTO;
 import com.taskmaster_springboot.dto.response.ApiResponseDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 import com.taskmaster_springboot.service.ActivityLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,13 +12,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -30,20 +33,21 @@ public class ActivityLogController {
 
     @GetMapping("/entity/{entityId}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get activity logs for an entity (Admin only)")
+    @Operation(summary = "Get activity logs for an entity, newest first (Admin only, cursor pagination)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Activity logs retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<ApiResponseDTO<List<ActivityLogResponseDTO>>> getEntityActivityLog(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<ActivityLogResponseDTO>>> getEntityActivityLog(
             @Parameter(description = "Entity ID (UUID)", required = true)
-            @PathVariable UUID entityId) {
+            @PathVariable UUID entityId,
+            @Valid @ParameterObject ActivityLogFilterRequestDTO filter) {
         log.info("Admin retrieving activity logs for entity: {}", entityId);
-        List<ActivityLogResponseDTO> logs = activityLogService.getEntityActivityLog(entityId);
+        CursorPageResponseDTO<ActivityLogResponseDTO> logs = activityLogService.getEntityActivityLog(entityId, filter);
         return ResponseEntity.ok()
-                .body(ApiResponseDTO.<List<ActivityLogResponseDTO>>builder()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<ActivityLogResponseDTO>>builder()
                         .success(true)
                         .statusCode(200)
                         .message("Activity logs retrieved successfully")
@@ -53,20 +57,21 @@ public class ActivityLogController {
 
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get activity logs by user (Admin only)")
+    @Operation(summary = "Get activity logs by user, newest first (Admin only, cursor pagination)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User activity logs retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<ApiResponseDTO<List<ActivityLogResponseDTO>>> getUserActivityLog(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<ActivityLogResponseDTO>>> getUserActivityLog(
             @Parameter(description = "User ID (UUID)", required = true)
-            @PathVariable UUID userId) {
+            @PathVariable UUID userId,
+            @Valid @ParameterObject ActivityLogFilterRequestDTO filter) {
         log.info("Admin retrieving activity logs for user: {}", userId);
-        List<ActivityLogResponseDTO> logs = activityLogService.getUserActivityLog(userId);
+        CursorPageResponseDTO<ActivityLogResponseDTO> logs = activityLogService.getUserActivityLog(userId, filter);
         return ResponseEntity.ok()
-                .body(ApiResponseDTO.<List<ActivityLogResponseDTO>>builder()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<ActivityLogResponseDTO>>builder()
                         .success(true)
                         .statusCode(200)
                         .message("User activity logs retrieved successfully")
@@ -76,20 +81,21 @@ public class ActivityLogController {
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
-    @Operation(summary = "Get project activity logs (Manager/Admin only)")
+    @Operation(summary = "Get project activity logs, newest first (Manager/Admin only, cursor pagination)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project activity logs retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden - Manager/Admin role required",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<ApiResponseDTO<List<ActivityLogResponseDTO>>> getProjectActivityLog(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<ActivityLogResponseDTO>>> getProjectActivityLog(
             @Parameter(description = "Project ID (UUID)", required = true)
-            @PathVariable UUID projectId) {
+            @PathVariable UUID projectId,
+            @Valid @ParameterObject ActivityLogFilterRequestDTO filter) {
         log.info("User retrieving activity logs for project: {}", projectId);
-        List<ActivityLogResponseDTO> logs = activityLogService.getProjectActivityLog(projectId);
+        CursorPageResponseDTO<ActivityLogResponseDTO> logs = activityLogService.getProjectActivityLog(projectId, filter);
         return ResponseEntity.ok()
-                .body(ApiResponseDTO.<List<ActivityLogResponseDTO>>builder()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<ActivityLogResponseDTO>>builder()
                         .success(true)
                         .statusCode(200)
                         .message("Project activity logs retrieved successfully")
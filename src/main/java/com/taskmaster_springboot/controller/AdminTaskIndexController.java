@@ -0,0 +1,104 @@
+package com.taskmaster_springboot.controller;
+
+import com.taskmaster_springboot.dto.response.ApiResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadIndexStatusDTO;
+import com.taskmaster_springboot.service.TaskTypeaheadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/tasks/typeahead-index")
+@AllArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Task Index Management (Admin Only)", description = "Admin endpoints for the in-memory task typeahead index")
+public class AdminTaskIndexController {
+
+    private final TaskTypeaheadService taskTypeaheadService;
+
+    /**
+     * GET /api/v1/admin/tasks/typeahead-index
+     * Index size and build state
+     */
+    @GetMapping
+    @Operation(summary = "Get typeahead index status",
+            description = "Live and dead document counts, term count and when the index was last built. Admin role required.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Index status retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskTypeaheadIndexStatusDTO>> getStatus() {
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskTypeaheadIndexStatusDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Index status retrieved successfully")
+                        .data(taskTypeaheadService.getIndexStatus())
+                        .build());
+    }
+
+    /**
+     * GET /api/v1/admin/tasks/typeahead-index/check
+     * Compare the index with the tasks table
+     */
+    @GetMapping("/check")
+    @Operation(summary = "Check typeahead index consistency",
+            description = "Reads every live task and reports tasks missing from the index, indexed with outdated " +
+                    "values, or indexed without a live task behind them. Scans the whole tasks table. Admin role required.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Index checked",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskTypeaheadIndexStatusDTO>> checkIndex() {
+        log.info("Admin request to check the typeahead index");
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskTypeaheadIndexStatusDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Index checked")
+                        .data(taskTypeaheadService.checkIndex())
+                        .build());
+    }
+
+    /**
+     * POST /api/v1/admin/tasks/typeahead-index/rebuild
+     * Reload the index from the database in the background
+     */
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild typeahead index",
+            description = "Starts reloading the index from the database; the current index keeps serving until the " +
+                    "new one is loaded. Does nothing if a rebuild is already running. Admin role required.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rebuild started",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin role required",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskTypeaheadIndexStatusDTO>> rebuildIndex() {
+        log.info("Admin request to rebuild the typeahead index");
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponseDTO.<TaskTypeaheadIndexStatusDTO>builder()
+                        .success(true)
+                        .statusCode(202)
+                        .message("Index rebuild started")
+                        .data(taskTypeaheadService.rebuildIndex())
+                        .build());
+    }
+}
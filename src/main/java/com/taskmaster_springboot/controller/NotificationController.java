@@ -1,6 +1,8 @@
 package com.taskmaster_springboot.controller;
 
+import com.taskmaster_springboot.dto.request.NotificationFilterRequestDTO;
 import com.taskmaster_springboot.dto.response.ApiResponseDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 import com.taskmaster_springboot.dto.response.NotificationResponseDTO;
 import com.taskmaster_springboot.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +12,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -49,6 +53,50 @@ public class NotificationController {
                         .build());
     }
 
+    @GetMapping("/page")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get a page of the user's notification inbox",
+            description = "Keyset-paginated, newest first. Pass the returned nextCursor to fetch the next page; " +
+                    "unreadOnly=true restricts the inbox to unread notifications.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notifications retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<NotificationResponseDTO>>> getUserNotificationsPage(
+            @Valid @ParameterObject NotificationFilterRequestDTO filter,
+            Authentication authentication) {
+        log.info("Retrieving notification page for user: {}", authentication.getName());
+        CursorPageResponseDTO<NotificationResponseDTO> notifications =
+                notificationService.getUserNotificationsPage(authentication.getName(), filter);
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<NotificationResponseDTO>>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Notifications retrieved successfully")
+                        .data(notifications)
+                        .build());
+    }
+
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get the number of unread notifications")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Unread count retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class)))
+    })
+    public ResponseEntity<ApiResponseDTO<Long>> getUnreadCount(Authentication authentication) {
+        long count = notificationService.getUnreadCount(authentication.getName());
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<Long>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Unread count retrieved successfully")
+                        .data(count)
+                        .build());
+    }
+
     @PutMapping("/{notificationId}/read")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "Mark notification as read")
@@ -1,9 +1,22 @@
 package com.taskmaster_springboot.controller;
 
+import com.taskmaster_springboot.dto.request.TaskBulkRequestDTO;
 import com.taskmaster_springboot.dto.request.TaskCreateRequestDTO;
+import com.taskmaster_springboot.dto.request.TaskFilterRequestDTO;
+import com.taskmaster_springboot.dto.request.TaskSearchRequestDTO;
+import com.taskmaster_springboot.dto.request.TaskTypeaheadRequestDTO;
 import com.taskmaster_springboot.dto.response.ApiResponseDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskBoardDTO;
+import com.taskmaster_springboot.dto.response.TaskBulkResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskChangeFeedDTO;
 import com.taskmaster_springboot.dto.response.TaskResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskSearchResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadResponseDTO;
+import com.taskmaster_springboot.model.enums.TaskExportFormat;
+import com.taskmaster_springboot.service.TaskSearchService;
 import com.taskmaster_springboot.service.TaskService;
+import com.taskmaster_springboot.service.TaskTypeaheadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,12 +27,18 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -30,7 +49,11 @@ import java.util.UUID;
 @Tag(name = "Task Management", description = "Manage tasks")
 public class TaskController {
 
+    private static final String BOARD_VERSION_HEADER = "X-Board-Version";
+
     private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+    private final TaskTypeaheadService taskTypeaheadService;
 
     @PostMapping
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
@@ -57,6 +80,34 @@ public class TaskController {
                         .build());
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Apply task operations in bulk (Manager/Admin only)",
+            description = "Creates, updates, assigns and moves up to 500 tasks in one transaction, in request order. " +
+                    "Operations referring to missing tasks, projects or users are skipped and reported in their result; " +
+                    "the others are applied.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk operations applied",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid operations or too many operations",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Manager role required",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskBulkResponseDTO>> applyBulkOperations(
+            @Valid @RequestBody TaskBulkRequestDTO request,
+            Authentication authentication) {
+        log.info("User {} applying {} bulk task operations", authentication.getName(), request.getOperations().size());
+        TaskBulkResponseDTO result = taskService.applyBulkOperations(request, authentication.getName());
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskBulkResponseDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Bulk operations applied: " + result.getSucceeded() + " succeeded, " + result.getFailed() + " failed")
+                        .data(result)
+                        .build());
+    }
+
     @GetMapping("/{taskId}")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "Get task details")
@@ -82,7 +133,9 @@ public class TaskController {
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
-    @Operation(summary = "Get project tasks")
+    @Operation(summary = "Get project tasks",
+            description = "The X-Board-Version header is the board version the list is at least as new as; " +
+                    "resume the change feed from it.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project tasks retrieved successfully",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class)))
@@ -91,13 +144,136 @@ public class TaskController {
             @Parameter(description = "Project ID (UUID)", required = true)
             @PathVariable UUID projectId) {
         log.info("Retrieving tasks for project: {}", projectId);
-        List<TaskResponseDTO> tasks = taskService.getProjectTasks(projectId);
+        TaskBoardDTO board = taskService.getProjectTaskBoard(projectId);
         return ResponseEntity.ok()
+                .header(BOARD_VERSION_HEADER, String.valueOf(board.getBoardVersion()))
                 .body(ApiResponseDTO.<List<TaskResponseDTO>>builder()
                         .success(true)
                         .statusCode(200)
                         .message("Project tasks retrieved successfully")
-                        .data(tasks)
+                        .data(board.getTasks())
+                        .build());
+    }
+
+    @GetMapping("/project/{projectId}/export")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Export project tasks",
+            description = "Streams every task of the project, oldest first, as NDJSON (one task per line) or CSV. " +
+                    "The X-Board-Version header is the board version the export is at least as new as.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task export streamed",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Invalid format",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<StreamingResponseBody> exportProjectTasks(
+            @Parameter(description = "Project ID (UUID)", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "ndjson (default) or csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Export archived tasks instead of live ones")
+            @RequestParam(defaultValue = "false") boolean archived) {
+        TaskExportFormat exportFormat;
+        try {
+            exportFormat = TaskExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid export format: " + format);
+        }
+        log.info("Exporting tasks of project {} as {}", projectId, exportFormat);
+        // Fails with 404 before the response starts
+        long boardVersion = taskService.getBoardVersion(projectId);
+        String extension = exportFormat.name().toLowerCase();
+        return ResponseEntity.ok()
+                .header(BOARD_VERSION_HEADER, String.valueOf(boardVersion))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks-" + projectId + "." + extension)
+                        .build()
+                        .toString())
+                .contentType(exportFormat == TaskExportFormat.CSV
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.APPLICATION_NDJSON)
+                .body(out -> taskService.exportProjectTasks(projectId, exportFormat, archived, out));
+    }
+
+    @GetMapping("/project/{projectId}/changes")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get task board changes after a version",
+            description = "Deltas also pushed to /topic/projects/{projectId}/tasks, oldest first. " +
+                    "If resyncRequired is true the history is gone and the board must be reloaded.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task changes retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid version or limit",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskChangeFeedDTO>> getTaskChanges(
+            @Parameter(description = "Project ID (UUID)", required = true)
+            @PathVariable UUID projectId,
+            @Parameter(description = "Last board version the client has applied", required = true)
+            @RequestParam long sinceVersion,
+            @Parameter(description = "Maximum number of changes (1-1000, default 500)")
+            @RequestParam(required = false) Integer limit) {
+        log.info("Retrieving task changes for project {} since version {}", projectId, sinceVersion);
+        TaskChangeFeedDTO changes = taskService.getTaskChanges(projectId, sinceVersion, limit);
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskChangeFeedDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Task changes retrieved successfully")
+                        .data(changes)
+                        .build());
+    }
+
+    @GetMapping("/project/{projectId}/page")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get a filtered page of project tasks (cursor pagination)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Project tasks page retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or cursor",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "404", description = "Project not found",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<TaskResponseDTO>>> getProjectTasksPage(
+            @Parameter(description = "Project ID (UUID)", required = true)
+            @PathVariable UUID projectId,
+            @Valid @ParameterObject TaskFilterRequestDTO filter) {
+        log.info("Retrieving task page for project: {}", projectId);
+        CursorPageResponseDTO<TaskResponseDTO> page = taskService.filterTasks(projectId, filter);
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<TaskResponseDTO>>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Project tasks page retrieved successfully")
+                        .data(page)
+                        .build());
+    }
+
+    @GetMapping("/assigned/page")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Get a filtered page of the user's assigned tasks (cursor pagination)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "User tasks page retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid filter or cursor",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<TaskResponseDTO>>> getUserAssignedTasksPage(
+            @Valid @ParameterObject TaskFilterRequestDTO filter,
+            Authentication authentication) {
+        log.info("Retrieving assigned task page for user: {}", authentication.getName());
+        CursorPageResponseDTO<TaskResponseDTO> page = taskService.getUserAssignedTasksPage(authentication.getName(), filter);
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<CursorPageResponseDTO<TaskResponseDTO>>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("User tasks page retrieved successfully")
+                        .data(page)
                         .build());
     }
 
@@ -120,6 +296,56 @@ public class TaskController {
                         .build());
     }
 
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Search tasks",
+            description = "Full-text search over key, title, tags, description and comments of the tasks in projects " +
+                    "the caller can see, best match first. Highlights are HTML-escaped text with matched terms wrapped in <mark> tags.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing query or invalid paging",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskSearchResponseDTO>> searchTasks(
+            @Valid @ParameterObject TaskSearchRequestDTO request,
+            Authentication authentication) {
+        log.info("User {} searching tasks", authentication.getName());
+        TaskSearchResponseDTO results = taskSearchService.search(request, authentication.getName());
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskSearchResponseDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Search results retrieved successfully")
+                        .data(results)
+                        .build());
+    }
+
+    @GetMapping("/typeahead")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "Task typeahead",
+            description = "Suggestions while typing, served from memory: a key prefix such as PROJ-12 matches task keys, " +
+                    "anything else matches the beginnings of title and tag words. Newest tasks first. " +
+                    "ready is false while the index is still loading after startup.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Missing query or invalid limit",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<ApiResponseDTO<TaskTypeaheadResponseDTO>> typeahead(
+            @Valid @ParameterObject TaskTypeaheadRequestDTO request,
+            Authentication authentication) {
+        TaskTypeaheadResponseDTO suggestions = taskTypeaheadService.typeahead(request, authentication.getName());
+        return ResponseEntity.ok()
+                .body(ApiResponseDTO.<TaskTypeaheadResponseDTO>builder()
+                        .success(true)
+                        .statusCode(200)
+                        .message("Suggestions retrieved successfully")
+                        .data(suggestions)
+                        .build());
+    }
+
     @PutMapping("/{taskId}")
     @PreAuthorize("hasRole('MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "Update task details (Manager/Admin only)")
@@ -0,0 +1,37 @@
+package com.taskmaster_springboot.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogFilterRequestDTO {
+    private String action;
+
+    // Inclusive lower bound
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant from;
+
+    // Exclusive upper bound
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private Instant to;
+
+    // Continue into the compressed archives of months past retention once the live rows run out;
+    // send it again with the cursor of such a page
+    private Boolean includeArchived;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size must be at most 200")
+    private Integer size;
+}
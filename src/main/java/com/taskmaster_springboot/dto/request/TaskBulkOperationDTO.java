@@ -0,0 +1,34 @@
+package com.taskmaster_springboot.dto.request;
+
+import com.taskmaster_springboot.model.enums.TaskBulkOperationType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * One operation of a bulk request. CREATE takes {@code task}; UPDATE takes {@code taskId} and
+ * {@code task}; ASSIGN takes {@code taskId} and {@code assigneeId}; STATUS takes {@code taskId}
+ * and {@code status}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkOperationDTO {
+    @NotNull(message = "Operation type is required")
+    private TaskBulkOperationType type;
+
+    private UUID taskId;
+
+    @Valid
+    private TaskCreateRequestDTO task;
+
+    private UUID assigneeId;
+
+    private String status;
+}
@@ -0,0 +1,42 @@
+package com.taskmaster_springboot.dto.request;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterRequestDTO {
+    private UUID projectId;
+
+    private TaskStatus status;
+
+    private TaskPriority priority;
+
+    private UUID assigneeId;
+
+    private Boolean archived;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 200, message = "Page size must be at most 200")
+    private Integer size;
+}
@@ -0,0 +1,33 @@
+package com.taskmaster_springboot.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchRequestDTO {
+    // Web search syntax: words, "quoted phrases", OR, -excluded
+    @NotBlank(message = "Search query is required")
+    @Size(max = 200, message = "Search query must be at most 200 characters")
+    private String q;
+
+    private UUID projectId;
+
+    @Min(value = 0, message = "Page must be at least 0")
+    @Max(value = 50, message = "Page must be at most 50")
+    private Integer page;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 50, message = "Page size must be at most 50")
+    private Integer size;
+}
@@ -0,0 +1,29 @@
+package com.taskmaster_springboot.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTypeaheadRequestDTO {
+    // A task key prefix (PROJ-12) or the beginnings of title/tag words
+    @NotBlank(message = "Query is required")
+    @Size(max = 100, message = "Query must be at most 100 characters")
+    private String q;
+
+    private UUID projectId;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 50, message = "Limit must be at most 50")
+    private Integer limit;
+}
@@ -0,0 +1,19 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+    private Integer size;
+}
@@ -0,0 +1,18 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDTO {
+    // The tasks are at least as new as this version; resume the change feed from it
+    private Long boardVersion;
+    private List<TaskResponseDTO> tasks;
+}
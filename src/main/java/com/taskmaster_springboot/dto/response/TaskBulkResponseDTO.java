@@ -0,0 +1,19 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResponseDTO {
+    private Integer succeeded;
+    private Integer failed;
+    // One result per operation, in request order
+    private List<TaskBulkResultDTO> results;
+}
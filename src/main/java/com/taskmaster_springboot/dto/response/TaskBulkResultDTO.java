@@ -0,0 +1,25 @@
+package com.taskmaster_springboot.dto.response;
+
+import com.taskmaster_springboot.model.enums.TaskBulkOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkResultDTO {
+    // Position of the operation in the request
+    private Integer index;
+    private TaskBulkOperationType type;
+    private Boolean success;
+    private UUID taskId;
+    // Why the operation was skipped; null on success
+    private String error;
+    // The task after the operation; null when it failed
+    private TaskResponseDTO task;
+}
@@ -0,0 +1,25 @@
+package com.taskmaster_springboot.dto.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmaster_springboot.model.enums.TaskChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEventDTO {
+    private UUID projectId;
+    private Long version;
+    private UUID taskId;
+    private TaskChangeType type;
+    private JsonNode changes;
+    private UUID actorId;
+    private Instant createdAt;
+}
@@ -0,0 +1,22 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeFeedDTO {
+    private UUID projectId;
+    private Long currentVersion;
+    private List<TaskChangeEventDTO> events;
+    private Boolean hasMore;
+    // The requested version is older than the retained history; reload the board instead
+    private Boolean resyncRequired;
+}
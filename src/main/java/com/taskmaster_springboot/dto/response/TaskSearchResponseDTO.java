@@ -0,0 +1,20 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponseDTO {
+    private String query;
+    private List<TaskSearchResultDTO> items;
+    private Integer page;
+    private Integer size;
+    private boolean hasMore;
+}
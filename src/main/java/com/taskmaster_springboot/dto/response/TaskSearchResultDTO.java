@@ -0,0 +1,30 @@
+package com.taskmaster_springboot.dto.response;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResultDTO {
+    private UUID id;
+    private UUID projectId;
+    private String key;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private UUID assigneeId;
+    private Instant updatedAt;
+    private Double rank;
+    // HTML: the text escaped, matched terms wrapped in <mark>...</mark>
+    private String titleHighlight;
+    private String snippet;
+}
@@ -0,0 +1,34 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTypeaheadIndexStatusDTO {
+    private boolean enabled;
+    private boolean ready;
+    private boolean rebuilding;
+    private int liveDocuments;
+    private int deadDocuments;
+    private int terms;
+    private Instant builtAt;
+    private Long buildMillis;
+
+    // Set by a consistency check only
+    private Long checkedTasks;
+    private Long missing;
+    private Long stale;
+    private Long unexpected;
+    private List<UUID> missingSample;
+    private List<UUID> staleSample;
+    private Boolean consistent;
+}
@@ -0,0 +1,19 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTypeaheadItemDTO {
+    private UUID id;
+    private UUID projectId;
+    private String key;
+    private String title;
+}
@@ -0,0 +1,19 @@
+package com.taskmaster_springboot.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTypeaheadResponseDTO {
+    private String query;
+    private List<TaskTypeaheadItemDTO> items;
+    // False while the index is still loading; items are empty then
+    private boolean ready;
+}
@@ -0,0 +1,312 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.utils.ActivityLogArchiveStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keeps {@code activity_logs} range-partitioned by month on created_at.
+ * <p>
+ * On startup a plain (Hibernate-created) table is converted once: it is renamed, a
+ * partitioned table with the same columns, keys and indexes is created, and the rows are moved
+ * over in batches of {@code conversion-batch-size}, each in a transaction of its own, so no
+ * lock is held for the whole copy; the old table is dropped once it is empty. A node that stops
+ * half way resumes the move on its next start. Afterwards, and nightly, partitions are created
+ * {@code months-ahead} in advance. Partitions older than {@code retention-months} are exported
+ * to the {@link ActivityLogArchiveStore} (when archiving is enabled), detached and dropped in one
+ * transaction. A default partition catches rows outside the prepared range; each run moves them
+ * into a partition of their month, so they are kept and expired like all others.
+ * <p>
+ * Every node schedules the maintenance, but only the one holding a session-level advisory lock
+ * runs it; the others skip that run. Each step runs in a transaction of its own: PostgreSQL
+ * aborts a transaction at its first failed statement, so one failing partition must not take
+ * the others down with it.
+ */
+@Component
+@Slf4j
+public class ActivityLogPartitionManager {
+
+    private static final String TABLE = "activity_logs";
+    private static final String LEGACY = TABLE + "_legacy";
+    private static final String LOCK_KEY = "activity_logs maintenance";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActivityLogArchiveStore archiveStore;
+
+    @Value("${app.activity-log.partitioning.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.activity-log.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.activity-log.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.activity-log.partitioning.conversion-batch-size:10000}")
+    private int conversionBatchSize;
+
+    public ActivityLogPartitionManager(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       ActivityLogArchiveStore archiveStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveStore = archiveStore;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        runExclusively(() -> {
+            String kind = jdbcTemplate.queryForObject(
+                    "SELECT c.relkind::text FROM pg_class c WHERE c.oid = to_regclass(?)", String.class, TABLE);
+            if ("r".equals(kind)) {
+                transactionTemplate.executeWithoutResult(status -> convertToPartitioned());
+            }
+            if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, LEGACY) == Boolean.TRUE) {
+                moveLegacyRows();
+            }
+            runMaintenance();
+        });
+    }
+
+    @Scheduled(cron = "${app.activity-log.maintenance-cron:0 15 2 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        runExclusively(this::runMaintenance);
+    }
+
+    /**
+     * Runs the work while holding the maintenance advisory lock on a connection of its own,
+     * or skips it when another node holds the lock.
+     */
+    private void runExclusively(Runnable work) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(hashtext(?))")) {
+                log.info("Activity log maintenance is running on another node, skipping");
+                return null;
+            }
+            try {
+                work.run();
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(hashtext(?))");
+            }
+            return null;
+        });
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_KEY);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void runMaintenance() {
+        // First, as rows of a month in the default partition block creating that month's partition
+        for (YearMonth month : defaultPartitionMonths()) {
+            inTransaction("move default partition rows of " + month, () -> moveFromDefault(month));
+        }
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            inTransaction("create partition " + partitionName(month), () -> createPartition(month));
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (YearMonth month : partitionMonths()) {
+            if (month.isBefore(oldestKept)) {
+                try {
+                    expire(month);
+                } catch (RuntimeException e) {
+                    log.error("Could not expire activity log partition {}", partitionName(month), e);
+                }
+            }
+        }
+    }
+
+    private void inTransaction(String step, Runnable action) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> action.run());
+        } catch (RuntimeException e) {
+            log.error("Activity log maintenance failed to {}: {}", step, e.getMessage());
+        }
+    }
+
+    /**
+     * Swaps in an empty partitioned table; the rows follow in {@link #moveLegacyRows()}.
+     */
+    private void convertToPartitioned() {
+        log.info("Converting {} to a monthly partitioned table", TABLE);
+
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + LEGACY);
+        // Keep the name Hibernate generated so schema updates keep recognising the constraint
+        String actorForeignKey = jdbcTemplate.queryForList(
+                "SELECT conname::text FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'f'",
+                String.class, LEGACY).stream().findFirst().orElse("fk_activity_logs_actor");
+        // Index names are schema-wide; the old table only needs its primary key while it drains
+        jdbcTemplate.queryForList(
+                "SELECT conname::text FROM pg_constraint WHERE conrelid = to_regclass(?) AND contype = 'p'",
+                String.class, LEGACY).forEach(name -> jdbcTemplate.execute(
+                "ALTER TABLE " + LEGACY + " RENAME CONSTRAINT " + name + " TO " + LEGACY + "_pkey"));
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_activity_logs_entity");
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_activity_logs_actor");
+
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (LIKE " + LEGACY + " INCLUDING DEFAULTS) " +
+                "PARTITION BY RANGE (created_at)");
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + "_default PARTITION OF " + TABLE + " DEFAULT");
+
+        List<LocalDate> months = jdbcTemplate.queryForList(
+                "SELECT DISTINCT date_trunc('month', created_at AT TIME ZONE 'UTC')::date FROM " + LEGACY,
+                LocalDate.class);
+        months.forEach(month -> createPartition(YearMonth.from(month)));
+        createPartition(YearMonth.now(ZoneOffset.UTC));
+
+        // A unique constraint on a partitioned table has to include the partition column
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + TABLE + "_pkey PRIMARY KEY (id, created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + actorForeignKey +
+                " FOREIGN KEY (actor_id) REFERENCES users (id)");
+        jdbcTemplate.execute("CREATE INDEX idx_activity_logs_entity ON " + TABLE + " (entity_id, entity_type, created_at)");
+        jdbcTemplate.execute("CREATE INDEX idx_activity_logs_actor ON " + TABLE + " (actor_id, created_at)");
+    }
+
+    /**
+     * Moves the old table's rows into the partitions in id order, one batch per transaction,
+     * then drops it. Until then, reads of older activity only see the rows already moved.
+     */
+    private void moveLegacyRows() {
+        long moved = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> jdbcTemplate.update(
+                    "WITH moved AS (DELETE FROM " + LEGACY + " WHERE id IN " +
+                            "(SELECT id FROM " + LEGACY + " ORDER BY id LIMIT ?) RETURNING *) " +
+                            "INSERT INTO " + TABLE + " SELECT * FROM moved", conversionBatchSize));
+            moved += batch;
+        } while (batch > 0);
+
+        jdbcTemplate.execute("DROP TABLE " + LEGACY);
+        log.info("Converted {} to partitions, {} rows moved", TABLE, moved);
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE +
+                " FOR VALUES " + bounds(month));
+    }
+
+    /**
+     * Builds the month's partition as a plain table from the default partition's rows of that
+     * month and attaches it; attaching checks that no such rows are left in the default.
+     */
+    private void moveFromDefault(YearMonth month) {
+        String name = partitionName(month);
+        String range = "created_at >= '" + month.atDay(1) + " 00:00:00+00' AND created_at < '" +
+                month.plusMonths(1).atDay(1) + " 00:00:00+00'";
+
+        jdbcTemplate.execute("CREATE TABLE " + name + " (LIKE " + TABLE + " INCLUDING DEFAULTS)");
+        int moved = jdbcTemplate.update("INSERT INTO " + name + " SELECT * FROM " + TABLE + "_default WHERE " + range);
+        jdbcTemplate.update("DELETE FROM " + TABLE + "_default WHERE " + range);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + name + " FOR VALUES " + bounds(month));
+        log.info("Moved {} activity log rows from the default partition to {}", moved, name);
+    }
+
+    private void expire(YearMonth month) {
+        String name = partitionName(month);
+
+        // Archive and drop together, so a failure leaves the partition in place for the next run
+        transactionTemplate.executeWithoutResult(status -> {
+            if (archiveStore.isEnabled()) {
+                long rows = archive(month, name);
+                log.info("Archived {} rows of activity log partition {}", rows, name);
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + name);
+            jdbcTemplate.execute("DROP TABLE " + name);
+        });
+        log.info("Dropped activity log partition {} (retention {} months)", name, retentionMonths);
+    }
+
+    private long archive(YearMonth month, String partition) {
+        // Streams with a server-side cursor, which PostgreSQL only uses inside a transaction
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(5_000);
+
+        ActivityLogArchiveStore.ArchiveWriter writer = archiveStore.open(month);
+        streaming.query(
+                "SELECT l.id, l.created_at, l.actor_id, u.first_name, u.last_name, l.action, l.entity_type, " +
+                        "l.entity_id, l.data::text AS data, l.ip, l.user_agent " +
+                        "FROM " + partition + " l LEFT JOIN users u ON u.id = l.actor_id " +
+                        "ORDER BY l.created_at, l.id",
+                rs -> {
+                    writer.add(new ActivityLogArchiveStore.ArchivedRow(
+                            rs.getLong("id"),
+                            rs.getTimestamp("created_at").toInstant(),
+                            rs.getObject("actor_id", UUID.class),
+                            rs.getString("first_name"),
+                            rs.getString("last_name"),
+                            rs.getString("action"),
+                            rs.getString("entity_type"),
+                            rs.getObject("entity_id", UUID.class),
+                            rs.getString("data"),
+                            rs.getString("ip"),
+                            rs.getString("user_agent")));
+                });
+        writer.finish();
+        return writer.rows();
+    }
+
+    private List<YearMonth> defaultPartitionMonths() {
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, TABLE + "_default") != Boolean.TRUE) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                        "SELECT DISTINCT date_trunc('month', created_at AT TIME ZONE 'UTC')::date FROM " + TABLE + "_default",
+                        LocalDate.class)
+                .stream()
+                .map(YearMonth::from)
+                .toList();
+    }
+
+    private List<YearMonth> partitionMonths() {
+        return jdbcTemplate.queryForList(
+                        "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                                "WHERE i.inhparent = to_regclass(?) AND c.relname ~ '_p[0-9]{6}$'",
+                        String.class, TABLE)
+                .stream()
+                .map(name -> name.substring(name.length() - 6))
+                .map(stamp -> YearMonth.of(Integer.parseInt(stamp.substring(0, 4)), Integer.parseInt(stamp.substring(4))))
+                .toList();
+    }
+
+    private static String bounds(YearMonth month) {
+        return "FROM ('" + month.atDay(1) + " 00:00:00+00') TO ('" + month.plusMonths(1).atDay(1) + " 00:00:00+00')";
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("%s_p%04d%02d", TABLE, month.getYear(), month.getMonthValue());
+    }
+}
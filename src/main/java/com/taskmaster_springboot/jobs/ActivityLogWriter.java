@@ -0,0 +1,209 @@
+package com.taskmaster_springboot.jobs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes activity log entries with plain JDBC batch inserts. Ids come from
+ * {@code nextval('activity_logs_seq')} inside the INSERT and the actor is written as a bare
+ * {@code actor_id}, so an entry costs no sequence or user round trips.
+ * <p>
+ * In {@code async} mode (default) entries are queued after the surrounding transaction commits
+ * and a single background thread drains the bounded queue in batches. When the queue stays full
+ * for {@code enqueue-timeout} the caller writes its entry itself, which slows producers down
+ * instead of dropping events. In {@code sync} mode entries are inserted immediately in the
+ * caller's transaction.
+ */
+@Component
+@Slf4j
+public class ActivityLogWriter {
+
+    static final String INSERT_SQL = "INSERT INTO activity_logs " +
+            "(id, actor_id, action, entity_type, entity_id, data, ip, user_agent, created_at) " +
+            "VALUES (nextval('activity_logs_seq'), ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?)";
+
+    public record Entry(UUID actorId, String action, String entityType, UUID entityId,
+                        String data, String ip, String userAgent, Instant createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeTransaction;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.activity-log.mode:async}")
+    private String mode;
+
+    @Value("${app.activity-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.activity-log.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.activity-log.flush-interval:200ms}")
+    private Duration flushInterval;
+
+    @Value("${app.activity-log.enqueue-timeout:50ms}")
+    private Duration enqueueTimeout;
+
+    private BlockingQueue<Entry> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private Counter writtenCounter;
+    private Counter droppedCounter;
+    private Counter overflowCounter;
+
+    public ActivityLogWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        writtenCounter = meterRegistry.counter("activity.log.written");
+        droppedCounter = meterRegistry.counter("activity.log.dropped");
+        overflowCounter = meterRegistry.counter("activity.log.overflow");
+
+        if (!isAsync()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("activity.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        running = true;
+        worker = new Thread(this::drain, "activity-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    public void write(Entry entry) {
+        if (!isAsync()) {
+            insert(List.of(entry));
+            writtenCounter.increment();
+            return;
+        }
+
+        // Only events of committed work are recorded
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entry);
+                }
+            });
+        } else {
+            enqueue(entry);
+        }
+    }
+
+    private void enqueue(Entry entry) {
+        try {
+            if (queue.offer(entry, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        overflowCounter.increment();
+        writeSafely(List.of(entry));
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // stop() interrupts; keep draining what is left
+                if (queue.isEmpty()) {
+                    break;
+                }
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            writeSafely(batch);
+            batch.clear();
+        }
+        log.info("Activity log writer stopped");
+    }
+
+    /**
+     * Writes the batch in its own transaction. If the batch is rejected (e.g. an unknown actor)
+     * the entries are retried one by one and only the failing ones are dropped.
+     */
+    private void writeSafely(List<Entry> batch) {
+        try {
+            writeTransaction.executeWithoutResult(status -> insert(batch));
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            if (batch.size() == 1) {
+                droppedCounter.increment();
+                log.warn("Dropping activity log entry {} for actor {}: {}",
+                        batch.get(0).action(), batch.get(0).actorId(), e.getMessage());
+                return;
+            }
+            batch.forEach(entry -> writeSafely(List.of(entry)));
+        }
+    }
+
+    private void insert(List<Entry> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+            ps.setObject(1, entry.actorId());
+            ps.setString(2, entry.action());
+            ps.setString(3, entry.entityType());
+            ps.setObject(4, entry.entityId());
+            ps.setString(5, entry.data());
+            ps.setString(6, entry.ip());
+            ps.setString(7, entry.userAgent());
+            ps.setObject(8, OffsetDateTime.ofInstant(entry.createdAt(), ZoneOffset.UTC));
+        });
+    }
+
+    private boolean isAsync() {
+        return !"sync".equalsIgnoreCase(mode);
+    }
+}
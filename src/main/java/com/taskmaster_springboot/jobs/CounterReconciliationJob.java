@@ -0,0 +1,49 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.repository.ProjectRepository;
+import com.taskmaster_springboot.repository.TaskRepository;
+import com.taskmaster_springboot.repository.TeamsRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the denormalized counters (task comment count, project task/member count,
+ * team member count) and rewrites only the rows that drifted. Also keeps each project's
+ * task key sequence ahead of the keys already in use.
+ */
+@Component
+@AllArgsConstructor
+@Slf4j
+public class CounterReconciliationJob {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TeamsRepository teamsRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignTaskSequences() {
+        int aligned = projectRepository.alignTaskSequences();
+        if (aligned > 0) {
+            log.info("Aligned task key sequences of {} projects with their existing task keys", aligned);
+        }
+    }
+
+    @Scheduled(cron = "${app.counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+
+        alignTaskSequences();
+
+        int comments = taskRepository.reconcileCommentCounts();
+        int projectTasks = projectRepository.reconcileTaskCounts();
+        int projectMembers = projectRepository.reconcileMemberCounts();
+        int teamMembers = teamsRepository.reconcileMemberCounts();
+
+        log.info("Counter reconciliation repaired {} task comment, {} project task, {} project member and {} team member counts in {} ms",
+                comments, projectTasks, projectMembers, teamMembers, System.currentTimeMillis() - start);
+    }
+}
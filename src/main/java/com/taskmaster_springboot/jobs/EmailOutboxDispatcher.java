@@ -0,0 +1,230 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.model.EmailOutbox;
+import com.taskmaster_springboot.model.enums.EmailStatus;
+import com.taskmaster_springboot.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers queued {@link EmailOutbox} rows. Each poll claims due rows, splits them into
+ * batches sent over a single SMTP connection per batch on the mail dispatch pool, and then
+ * marks them sent or reschedules them with exponential backoff until the attempt limit.
+ */
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${spring.mail.from:noreply@taskmaster.com}")
+    private String fromEmail;
+
+    @Value("${app.mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${app.mail.outbox.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    @Value("${app.mail.outbox.lease:5m}")
+    private Duration lease;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryLatency;
+    private final Timer batchTimer;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+                                 JavaMailSender mailSender,
+                                 @Qualifier("mailDispatchExecutor") ThreadPoolTaskExecutor executor,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("mail.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting in the outbox (as of the last poll)")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("mail.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mail.outbox.failed");
+        this.deliveryLatency = Timer.builder("mail.outbox.delivery.latency")
+                .description("Time from enqueue to successful SMTP hand-off")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch")
+                .description("Duration of one SMTP batch send")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:2000}")
+    public void poll() {
+        try {
+            dispatchPending();
+        } catch (Exception e) {
+            log.error("Email outbox dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sends everything that is currently due and returns the number of emails attempted.
+     */
+    public int dispatchPending() {
+        int claimSize = batchSize * workers;
+        int attempted = 0;
+        List<EmailOutbox> claimed;
+
+        do {
+            Instant now = Instant.now();
+            claimed = transactionTemplate.execute(status ->
+                    emailOutboxRepository.claimDue(now, now.plus(lease), claimSize));
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            for (int from = 0; from < claimed.size(); from += batchSize) {
+                List<EmailOutbox> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+                batches.add(CompletableFuture.runAsync(() -> sendBatch(batch), executor));
+            }
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+            attempted += claimed.size();
+        } while (claimed.size() == claimSize);
+
+        pending.set(emailOutboxRepository.countByStatus(EmailStatus.PENDING));
+        return attempted;
+    }
+
+    private void sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new LinkedHashMap<>();
+        Map<EmailOutbox, Exception> failures = new LinkedHashMap<>();
+
+        for (EmailOutbox email : batch) {
+            try {
+                messages.put(toMimeMessage(email), email);
+            } catch (MessagingException e) {
+                failures.put(email, e);
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            Timer.Sample sample = Timer.start();
+            try {
+                mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(email -> failures.put(email, e));
+                } else {
+                    e.getFailedMessages().forEach((message, cause) -> failures.put(messages.get(message), cause));
+                }
+            } catch (MailException e) {
+                messages.values().forEach(email -> failures.put(email, e));
+            } finally {
+                sample.stop(batchTimer);
+            }
+        }
+
+        Instant now = Instant.now();
+        List<UUID> sentIds = new ArrayList<>();
+        for (EmailOutbox email : messages.values()) {
+            if (!failures.containsKey(email)) {
+                sentIds.add(email.getId());
+                deliveryLatency.record(Duration.between(email.getCreatedAt(), now));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                emailOutboxRepository.markSent(sentIds, now);
+            }
+            failures.forEach((email, cause) -> recordFailure(email, cause, now));
+        });
+
+        sentCounter.increment(sentIds.size());
+        log.debug("Email batch: {} sent, {} failed", sentIds.size(), failures.size());
+    }
+
+    private void recordFailure(EmailOutbox email, Exception cause, Instant now) {
+        String error = truncate(cause.getMessage());
+
+        if (email.getAttempts() >= maxAttempts) {
+            emailOutboxRepository.markFailed(email.getId(), error);
+            failedCounter.increment();
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), error);
+        } else {
+            emailOutboxRepository.reschedule(email.getId(), now.plus(backoff(email.getAttempts())), error);
+            retriedCounter.increment();
+            log.warn("Email {} to {} failed (attempt {}), will retry: {}",
+                    email.getId(), email.getRecipient(), email.getAttempts(), error);
+        }
+    }
+
+    // initial * 2^(attempt - 1), capped
+    private Duration backoff(int attempt) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+
+        return message;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
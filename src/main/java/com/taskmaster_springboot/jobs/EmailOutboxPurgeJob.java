@@ -0,0 +1,63 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes sent and failed outbox emails older than {@code retention}, in chunks of
+ * {@code batch-size} rows, each in its own short transaction with a pause in between, like the
+ * notification compaction. Pending emails are never touched.
+ */
+@Component
+@Slf4j
+public class EmailOutboxPurgeJob {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${app.mail.outbox.retention:30d}")
+    private Duration retention;
+
+    @Value("${app.mail.outbox.purge.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.purge.pause:100ms}")
+    private Duration pause;
+
+    public EmailOutboxPurgeJob(EmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
+    }
+
+    @Scheduled(cron = "${app.mail.outbox.purge.cron:0 30 4 * * *}")
+    public void purge() {
+        long start = System.currentTimeMillis();
+        Instant before = Instant.now().minus(retention);
+
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = emailOutboxRepository.deleteFinishedBefore(before, batchSize);
+            deleted += chunk;
+        } while (chunk == batchSize && pauseBetweenChunks());
+
+        if (deleted > 0) {
+            log.info("Deleted {} sent or failed outbox emails older than {} in {} ms",
+                    deleted, retention, System.currentTimeMillis() - start);
+        }
+    }
+
+    private boolean pauseBetweenChunks() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.repository.NotificationRepository;
+import com.taskmaster_springboot.service.impl.UnreadNotificationCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the notifications table small.
+ * <ul>
+ *     <li>Compaction deletes read notifications older than {@code read-retention}, in chunks of
+ *     {@code batch-size} rows, each in its own short transaction with a pause in between, so
+ *     no long-running delete holds locks or bloats a single transaction.</li>
+ *     <li>The digest roll-up merges repeated unread TASK_UPDATED / TASK_COMMENTED notifications
+ *     for the same task into one row per user, see
+ *     {@link NotificationRepository#rollUpTaskDigests}. Notifications younger than
+ *     {@code digest.min-age} are left alone so clients can still act on what was just pushed.</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class NotificationCompactionJob {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Value("${app.notifications.read-retention:30d}")
+    private Duration readRetention;
+
+    @Value("${app.notifications.compaction.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.notifications.compaction.pause:100ms}")
+    private Duration pause;
+
+    @Value("${app.notifications.digest.min-age:1h}")
+    private Duration digestMinAge;
+
+    @Value("${app.notifications.digest.batch-size:500}")
+    private int digestBatchSize;
+
+    public NotificationCompactionJob(NotificationRepository notificationRepository,
+                                     UnreadNotificationCounter unreadNotificationCounter) {
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+    }
+
+    @Scheduled(cron = "${app.notifications.compaction.cron:0 0 4 * * *}")
+    public void compact() {
+        long start = System.currentTimeMillis();
+        Instant before = Instant.now().minus(readRetention);
+
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = notificationRepository.deleteReadBefore(before, batchSize);
+            deleted += chunk;
+        } while (chunk == batchSize && pauseBetweenChunks());
+
+        if (deleted > 0) {
+            log.info("Deleted {} read notifications older than {} in {} ms",
+                    deleted, readRetention, System.currentTimeMillis() - start);
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.digest.cron:0 */15 * * * *}")
+    public void rollUpDigests() {
+        Instant before = Instant.now().minus(digestMinAge);
+
+        long merged = 0;
+        Set<UUID> users = new HashSet<>();
+        List<UUID> chunk;
+        do {
+            chunk = notificationRepository.rollUpTaskDigests(before, digestBatchSize);
+            merged += chunk.size();
+            users.addAll(chunk);
+        } while (!chunk.isEmpty() && pauseBetweenChunks());
+
+        // Merged rows were unread, so the cached counts of these users are now too high
+        users.forEach(unreadNotificationCounter::invalidate);
+        if (merged > 0) {
+            log.info("Merged {} task notifications into digests for {} users", merged, users.size());
+        }
+    }
+
+    private boolean pauseBetweenChunks() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskmaster_springboot.jobs;
+
+import com.taskmaster_springboot.dto.response.NotificationResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes notifications to {@code /user/queue/notifications} once the transaction that created
+ * them commits. Notifications for the same recipient arriving within {@code coalesce-window}
+ * are sent as one frame (a JSON array), so bursts such as bulk reassignments do not flood the
+ * socket. Frames are sent from the dedicated fan-out pool, never from the request thread.
+ * Recipients without a connected session are skipped; they read the inbox over REST.
+ */
+@Component
+@Slf4j
+public class NotificationPushDispatcher {
+
+    public static final String DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry userRegistry;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    @Value("${app.notifications.push.coalesce-window:250ms}")
+    private Duration coalesceWindow;
+
+    @Value("${app.notifications.push.max-batch:100}")
+    private int maxBatch;
+
+    private final Map<String, List<NotificationResponseDTO>> pending = new ConcurrentHashMap<>();
+
+    private final Timer deliveryLatency;
+    private final DistributionSummary frameSize;
+    private final Counter offlineCounter;
+    private final Counter failedCounter;
+    private final MeterRegistry meterRegistry;
+
+    public NotificationPushDispatcher(SimpMessagingTemplate messagingTemplate,
+                                      SimpUserRegistry userRegistry,
+                                      @Qualifier("notificationFanoutScheduler") ThreadPoolTaskScheduler scheduler,
+                                      MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.userRegistry = userRegistry;
+        this.scheduler = scheduler;
+        this.meterRegistry = meterRegistry;
+        this.deliveryLatency = meterRegistry.timer("notifications.push.latency");
+        this.frameSize = meterRegistry.summary("notifications.push.frame.size");
+        this.offlineCounter = meterRegistry.counter("notifications.push.offline");
+        this.failedCounter = meterRegistry.counter("notifications.push.failed");
+    }
+
+    /**
+     * Queues the notification for its recipient (the STOMP principal name, i.e. the user's email)
+     * after the current transaction commits, or right away when there is none.
+     */
+    public void publish(String recipient, NotificationResponseDTO notification) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(recipient, notification);
+                }
+            });
+        } else {
+            enqueue(recipient, notification);
+        }
+    }
+
+    private void enqueue(String recipient, NotificationResponseDTO notification) {
+        if (userRegistry.getUser(recipient) == null) {
+            offlineCounter.increment();
+            return;
+        }
+
+        boolean[] flushNow = new boolean[1];
+        pending.compute(recipient, (key, batch) -> {
+            if (batch == null) {
+                batch = new ArrayList<>();
+                scheduler.schedule(() -> flush(key), Instant.now().plus(coalesceWindow));
+            }
+            batch.add(notification);
+            flushNow[0] = batch.size() >= maxBatch;
+            return batch;
+        });
+
+        if (flushNow[0]) {
+            scheduler.execute(() -> flush(recipient));
+        }
+    }
+
+    private void flush(String recipient) {
+        List<NotificationResponseDTO> batch = pending.remove(recipient);
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            messagingTemplate.convertAndSendToUser(recipient, DESTINATION, batch);
+        } catch (MessagingException e) {
+            failedCounter.increment(batch.size());
+            log.warn("Failed to push {} notifications to {}: {}", batch.size(), recipient, e.getMessage());
+            return;
+        }
+
+        frameSize.record(batch.size());
+        Instant now = Instant.now();
+        batch.stream()
+                .filter(notification -> notification.getCreatedAt() != null)
+                .forEach(notification -> deliveryLatency.record(Duration.between(notification.getCreatedAt(), now)));
+    }
+
+    /**
+     * Counts sessions that ended for any reason other than the client closing them, e.g. the
+     * broker dropping a slow consumer or the transport failing.
+     */
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        CloseStatus status = event.getCloseStatus();
+        if (CloseStatus.NORMAL.equalsCode(status) || CloseStatus.GOING_AWAY.equalsCode(status)) {
+            return;
+        }
+        meterRegistry.counter("notifications.push.sessions.dropped", "code", String.valueOf(status.getCode()))
+                .increment();
+    }
+}
@@ -4,12 +4,18 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Data
 @Entity(name = "activity_logs")
+@Table(name = "activity_logs", indexes = {
+        @Index(name = "idx_activity_logs_entity", columnList = "entity_id, entity_type, created_at"),
+        @Index(name = "idx_activity_logs_actor", columnList = "actor_id, created_at")
+})
 @Builder
 @AllArgsConstructor
 public class ActivityLogs {
@@ -39,7 +45,7 @@ public class ActivityLogs {
     @Column(name = "entity_id")
     private UUID entityId;
 
-    @Lob
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "data", columnDefinition = "JSONB")
     private String data;
 
@@ -8,12 +8,17 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Data
 @Entity(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_inbox", columnList = "user_id, created_at, id")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,7 +35,7 @@ public class Notifications {
     private Users user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "actor_id", referencedColumnName = "id", nullable = false)
+    @JoinColumn(name = "actor_id", referencedColumnName = "id")
     @JsonIgnore
     private Users actor;
 
@@ -42,7 +47,7 @@ public class Notifications {
     @Column(name = "channel", nullable = false, length = 50)
     private NotificationChannel channel = NotificationChannel.WEBSOCKET;
 
-    @Lob
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", columnDefinition = "JSONB")
     private String payload;
 
@@ -55,5 +60,11 @@ public class Notifications {
     @PrePersist
     protected void onCreate() {
         this.createdAt = Instant.now();
+        if (this.channel == null) {
+            this.channel = NotificationChannel.WEBSOCKET;
+        }
+        if (this.isRead == null) {
+            this.isRead = false;
+        }
     }
 }
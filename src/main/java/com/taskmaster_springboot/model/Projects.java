@@ -10,6 +10,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.time.LocalDate;
@@ -19,6 +21,7 @@ import java.util.UUID;
 
 @Data
 @Entity(name = "projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -83,6 +86,31 @@ public class Projects {
     @Column(name = "archived", nullable = false)
     private Boolean archived = false;
 
+    // Maintained by atomic UPDATEs in the services, never written through the entity
+    @Column(name = "task_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private Integer taskCount = 0;
+
+    @Column(name = "member_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private Integer memberCount = 0;
+
+    // Last task number handed out for this project's task keys, see TaskKeyAllocator.
+    // This and board_version move by UPDATE ... RETURNING, which does not evict the cached
+    // entity, so read them through queries rather than from a loaded project.
+    @Column(name = "task_seq", insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    @Builder.Default
+    private Long taskSequence = 0L;
+
+    // Bumped once per task board change, see TaskChangeFeed
+    @Column(name = "board_version", insertable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    @Builder.Default
+    private Long boardVersion = 0L;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonIgnore
     private Set<Tasks> tasks = new HashSet<>();
@@ -3,9 +3,12 @@ package com.taskmaster_springboot.model;
 import com.taskmaster_springboot.model.enums.RoleName;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Data
 @Entity(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 public class Roles {
 
     @Id
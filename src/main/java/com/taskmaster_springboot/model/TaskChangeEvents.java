@@ -0,0 +1,67 @@
+package com.taskmaster_springboot.model;
+
+import com.taskmaster_springboot.model.enums.TaskChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One delta of a project's task board. {@code version} is the project's board_version after
+ * the change, so a client that has seen version N resumes with the events after N.
+ */
+@Data
+@Entity(name = "task_change_events")
+@Table(name = "task_change_events", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_change_events_version", columnNames = {"project_id", "version"})
+}, indexes = {
+        @Index(name = "idx_task_change_events_created", columnList = "created_at")
+})
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangeEvents {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_change_events_seq")
+    @SequenceGenerator(name = "task_change_events_seq", sequenceName = "task_change_events_seq", allocationSize = 50)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "task_id", nullable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private TaskChangeType type;
+
+    // Changed fields only, as JSON
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "changes", columnDefinition = "JSONB")
+    private String changes;
+
+    @Column(name = "actor_id")
+    private UUID actorId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
+    }
+}
@@ -15,6 +15,9 @@ import java.util.UUID;
 
 @Data
 @Entity(name = "task_comments")
+@Table(name = "task_comments", indexes = {
+        @Index(name = "idx_task_comments_task", columnList = "task_id")
+})
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
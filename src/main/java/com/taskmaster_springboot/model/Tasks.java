@@ -20,6 +20,12 @@ import java.util.UUID;
 
 @Data
 @Entity(name = "tasks")
+@Table(name = "tasks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tasks_project_key", columnNames = {"project_id", "key"})
+}, indexes = {
+        @Index(name = "idx_tasks_project_page", columnList = "project_id, archived, created_at, id"),
+        @Index(name = "idx_tasks_assignee_page", columnList = "assignee_id, archived, created_at, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -75,6 +81,7 @@ public class Tasks {
     private Integer estimateMinutes;
 
     @Column(name = "time_spent_minutes", nullable = false)
+    @Builder.Default
     private Integer timeSpentMinutes = 0;
 
     @Column(name = "start_date")
@@ -103,6 +110,12 @@ public class Tasks {
     @Column(name = "archived", nullable = false)
     private Boolean archived = false;
 
+    // Maintained by atomic UPDATEs in the services, never written through the entity
+    @Column(name = "comment_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private Integer commentCount = 0;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @JsonIgnore
     private Set<TaskComments> comments = new HashSet<>();
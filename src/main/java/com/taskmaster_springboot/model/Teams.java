@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -13,6 +15,7 @@ import java.util.UUID;
 
 @Data
 @Entity(name = "teams")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
 @Builder
 @AllArgsConstructor
 public class Teams {
@@ -51,6 +54,12 @@ public class Teams {
     @Column(name = "archived", nullable = false)
     private Boolean archived = false;
 
+    // Maintained by atomic UPDATEs, never written through the entity
+    @Column(name = "member_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private Integer memberCount = 0;
+
     @ManyToMany(mappedBy = "teams")
     private Set<Users> members = new HashSet<>();
 
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.taskmaster_springboot.model.enums.AccountStatus;
 
 import java.time.Instant;
@@ -86,6 +88,7 @@ public class Users {
     private Instant lastLoginAt;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
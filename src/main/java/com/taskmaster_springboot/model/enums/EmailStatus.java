@@ -0,0 +1,7 @@
+package com.taskmaster_springboot.model.enums;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.taskmaster_springboot.model.enums;
+
+public enum TaskBulkOperationType {
+    CREATE,
+    UPDATE,
+    ASSIGN,
+    STATUS
+}
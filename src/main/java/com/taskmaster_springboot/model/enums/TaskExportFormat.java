@@ -0,0 +1,6 @@
+package com.taskmaster_springboot.model.enums;
+
+public enum TaskExportFormat {
+    CSV,
+    NDJSON
+}
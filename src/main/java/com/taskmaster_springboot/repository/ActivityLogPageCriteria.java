@@ -0,0 +1,20 @@
+package com.taskmaster_springboot.repository;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record ActivityLogPageCriteria(
+        String entityType,
+        UUID entityId,
+        UUID actorId,
+        String action,
+        Instant from,
+        Instant to,
+        Instant beforeCreatedAt,
+        Long beforeId,
+        int limit
+) {
+}
@@ -0,0 +1,12 @@
+package com.taskmaster_springboot.repository;
+
+import java.util.List;
+
+public interface ActivityLogPageRepository {
+
+    /**
+     * Keyset page over activity logs, newest first by (createdAt, id). Filters left null on the
+     * criteria are not rendered, and the actor name is joined into the same statement.
+     */
+    List<ActivityLogView> findPage(ActivityLogPageCriteria criteria);
+}
@@ -0,0 +1,78 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.ActivityLogs;
+import com.taskmaster_springboot.model.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+class ActivityLogPageRepositoryImpl implements ActivityLogPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ActivityLogView> findPage(ActivityLogPageCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ActivityLogView> query = cb.createQuery(ActivityLogView.class);
+        Root<ActivityLogs> log = query.from(ActivityLogs.class);
+        Join<ActivityLogs, Users> actor = log.join("actor");
+
+        query.select(cb.construct(ActivityLogView.class,
+                        log.get("id"),
+                        actor.get("userId"),
+                        actor.get("firstName"),
+                        actor.get("lastName"),
+                        log.get("action"),
+                        log.get("entityType"),
+                        log.get("entityId"),
+                        log.get("data"),
+                        log.get("createdAt")))
+                .where(buildPredicates(cb, log, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.desc(log.get("createdAt")), cb.desc(log.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(criteria.limit())
+                .getResultList();
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<ActivityLogs> log, ActivityLogPageCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (criteria.entityType() != null) {
+            predicates.add(cb.equal(log.get("entityType"), criteria.entityType()));
+        }
+        if (criteria.entityId() != null) {
+            predicates.add(cb.equal(log.get("entityId"), criteria.entityId()));
+        }
+        if (criteria.actorId() != null) {
+            predicates.add(cb.equal(log.get("actor").get("userId"), criteria.actorId()));
+        }
+        if (criteria.action() != null) {
+            predicates.add(cb.equal(log.get("action"), criteria.action()));
+        }
+        if (criteria.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(log.<Instant>get("createdAt"), criteria.from()));
+        }
+        if (criteria.to() != null) {
+            predicates.add(cb.lessThan(log.<Instant>get("createdAt"), criteria.to()));
+        }
+        if (criteria.beforeCreatedAt() != null) {
+            // Row-value comparison (created_at, id) < (:createdAt, :id), spelled out for JPA
+            predicates.add(cb.or(
+                    cb.lessThan(log.<Instant>get("createdAt"), criteria.beforeCreatedAt()),
+                    cb.and(
+                            cb.equal(log.get("createdAt"), criteria.beforeCreatedAt()),
+                            cb.lessThan(log.<Long>get("id"), criteria.beforeId()))));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmaster_springboot.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only projection of an activity log row joined with its actor's name.
+ */
+public record ActivityLogView(
+        Long id,
+        UUID actorId,
+        String actorFirstName,
+        String actorLastName,
+        String action,
+        String entityType,
+        UUID entityId,
+        String data,
+        Instant createdAt
+) {
+}
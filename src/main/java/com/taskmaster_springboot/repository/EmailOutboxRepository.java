@@ -0,0 +1,70 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.EmailOutbox;
+import com.taskmaster_springboot.model.enums.EmailStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    long countByStatus(EmailStatus status);
+
+    /**
+     * Claims up to {@code limit} due emails: counts the attempt and pushes next_attempt_at to
+     * {@code leaseUntil}. SKIP LOCKED lets several dispatcher instances claim disjoint rows.
+     */
+    @Query(value = "UPDATE email_outbox SET attempts = attempts + 1, next_attempt_at = :leaseUntil " +
+            "WHERE id IN (SELECT id FROM email_outbox " +
+            "             WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "             ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING *", nativeQuery = true)
+    List<EmailOutbox> claimDue(@Param("now") Instant now,
+                               @Param("leaseUntil") Instant leaseUntil,
+                               @Param("limit") int limit);
+
+    /**
+     * Marks the emails as sent. The body is cleared: it may hold verification codes or reset
+     * links, and it is not needed once the email is out.
+     */
+    @Modifying
+    @Query("update email_outbox e set e.status = com.taskmaster_springboot.model.enums.EmailStatus.SENT, " +
+            "e.sentAt = :sentAt, e.lastError = null, e.body = '' where e.id in :ids")
+    int markSent(@Param("ids") Collection<UUID> ids, @Param("sentAt") Instant sentAt);
+
+    @Modifying
+    @Query("update email_outbox e set e.nextAttemptAt = :nextAttemptAt, e.lastError = :error where e.id = :id")
+    int reschedule(@Param("id") UUID id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("error") String error);
+
+    /**
+     * Gives up on the email; like {@link #markSent}, this clears the body.
+     */
+    @Modifying
+    @Query("update email_outbox e set e.status = com.taskmaster_springboot.model.enums.EmailStatus.FAILED, " +
+            "e.lastError = :error, e.body = '' where e.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("error") String error);
+
+    /**
+     * Deletes up to {@code limit} sent or failed emails created before {@code before}; called in
+     * chunks by the outbox purge job.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "email_outbox"))
+    @Query(value = "DELETE FROM email_outbox WHERE id IN (" +
+            "SELECT id FROM email_outbox WHERE status IN ('SENT', 'FAILED') AND created_at < :before " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
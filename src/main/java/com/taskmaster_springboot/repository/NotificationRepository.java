@@ -1,11 +1,18 @@
 package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.Notifications;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +20,94 @@ import java.util.UUID;
 public interface NotificationRepository extends JpaRepository<Notifications, UUID> {
     @Query("select n from notifications n where n.user.userId=:userid")
     List<Notifications> findByUserId(@Param("userid") UUID userId);
+
+    // Inbox pages, newest first; "before" variants continue after the cursor row
+    @Query("select n from notifications n where n.user.userId = :userId " +
+            "order by n.createdAt desc, n.id desc")
+    List<Notifications> findInbox(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select n from notifications n where n.user.userId = :userId " +
+            "and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)) " +
+            "order by n.createdAt desc, n.id desc")
+    List<Notifications> findInboxBefore(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                        @Param("id") UUID id, Limit limit);
+
+    @Query("select n from notifications n where n.user.userId = :userId and n.isRead = false " +
+            "order by n.createdAt desc, n.id desc")
+    List<Notifications> findUnreadInbox(@Param("userId") UUID userId, Limit limit);
+
+    @Query("select n from notifications n where n.user.userId = :userId and n.isRead = false " +
+            "and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)) " +
+            "order by n.createdAt desc, n.id desc")
+    List<Notifications> findUnreadInboxBefore(@Param("userId") UUID userId, @Param("createdAt") Instant createdAt,
+                                              @Param("id") UUID id, Limit limit);
+
+    @Query("select count(n) from notifications n where n.user.userId = :userId and n.isRead = false")
+    long countUnread(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("update notifications n set n.isRead = true where n.user.userId = :userId and n.isRead = false")
+    int markAllRead(@Param("userId") UUID userId);
+
+    /**
+     * Deletes up to {@code limit} read notifications created before {@code before}, oldest first.
+     * Rows locked by concurrent requests are skipped and picked up by a later chunk.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "notifications"))
+    @Query(value = "DELETE FROM notifications WHERE id IN (" +
+            "SELECT id FROM notifications WHERE is_read = true AND created_at < :before " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteReadBefore(@Param("before") Instant before, @Param("limit") int limit);
+
+    /**
+     * Merges unread TASK_UPDATED / TASK_COMMENTED notifications of the same user, type and task
+     * (payload taskId) created before {@code before} into one digest row, for up to {@code limit}
+     * such groups. The newest row of a group is kept, so its id and position in the inbox stay
+     * the same; its payload becomes a digest with the total count, the first/last times and the
+     * five most recent messages, and the other rows are deleted. Digests merge again with newer
+     * rows; the messages of an earlier digest then count as its own, in their order.
+     *
+     * @return the user id of every deleted row
+     */
+    @Transactional
+    @Query(value = "WITH groups AS (" +
+            "  SELECT user_id, type, payload->>'taskId' AS task_id FROM notifications " +
+            "  WHERE is_read = false AND type IN ('TASK_UPDATED', 'TASK_COMMENTED') " +
+            "    AND payload->>'taskId' IS NOT NULL AND created_at < :before " +
+            "  GROUP BY user_id, type, payload->>'taskId' HAVING count(*) > 1 LIMIT :limit" +
+            "), ranked AS (" +
+            "  SELECT n.id, n.user_id, n.type, g.task_id, n.payload, n.created_at, " +
+            "         row_number() OVER (PARTITION BY n.user_id, n.type, g.task_id " +
+            "                            ORDER BY n.created_at DESC, n.id DESC) AS rn " +
+            "  FROM notifications n JOIN groups g ON n.user_id = g.user_id AND n.type = g.type " +
+            "    AND n.payload->>'taskId' = g.task_id " +
+            "  WHERE n.is_read = false AND n.created_at < :before" +
+            "), messages AS (" +
+            // A digest contributes its recent messages (its own message is the first of them)
+            "  SELECT r.user_id, r.type, r.task_id, m.message, " +
+            "         row_number() OVER (PARTITION BY r.user_id, r.type, r.task_id ORDER BY r.rn, m.ord) AS pos " +
+            "  FROM ranked r CROSS JOIN LATERAL jsonb_array_elements(" +
+            "    CASE WHEN jsonb_typeof(r.payload->'recentMessages') = 'array' THEN r.payload->'recentMessages' " +
+            "         ELSE jsonb_build_array(r.payload->'message') END) WITH ORDINALITY AS m(message, ord)" +
+            "), recent AS (" +
+            "  SELECT user_id, type, task_id, jsonb_agg(message ORDER BY pos) AS messages " +
+            "  FROM messages WHERE pos <= 5 GROUP BY user_id, type, task_id" +
+            "), digests AS (" +
+            "  SELECT user_id, type, task_id, " +
+            "         (array_agg(id ORDER BY rn))[1] AS keep_id, " +
+            "         sum(coalesce(CAST(payload->>'count' AS int), 1)) AS total, " +
+            "         min(coalesce(CAST(payload->>'firstAt' AS timestamptz), created_at)) AS first_at, " +
+            "         max(created_at) AS last_at " +
+            "  FROM ranked GROUP BY user_id, type, task_id" +
+            "), merged AS (" +
+            "  UPDATE notifications n SET payload = jsonb_build_object(" +
+            "    'taskId', d.task_id, 'message', n.payload->'message', 'digest', true, 'count', d.total, " +
+            "    'firstAt', d.first_at, 'lastAt', d.last_at, 'recentMessages', r.messages) " +
+            "  FROM digests d JOIN recent r USING (user_id, type, task_id) WHERE n.id = d.keep_id RETURNING n.id" +
+            "), deleted AS (" +
+            "  DELETE FROM notifications n USING ranked r WHERE n.id = r.id AND r.rn > 1 RETURNING n.user_id" +
+            ") SELECT user_id FROM deleted", nativeQuery = true)
+    List<UUID> rollUpTaskDigests(@Param("before") Instant before, @Param("limit") int limit);
 }
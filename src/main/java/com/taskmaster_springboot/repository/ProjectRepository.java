@@ -3,14 +3,121 @@ package com.taskmaster_springboot.repository;
 import com.taskmaster_springboot.model.Projects;
 import com.taskmaster_springboot.model.Teams;
 import com.taskmaster_springboot.model.Users;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Projects, UUID> {
     List<Projects> findByTeam(Teams team);
     List<Projects> findByOwner(Users owner);
+
+    /**
+     * Moves the project's task count by {@code delta}. The query space is not {@code projects},
+     * as that would evict the whole projects cache region on every task created or archived;
+     * callers evict the one project instead (see TaskServiceImpl).
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects_task_count"))
+    @Query(value = "UPDATE projects SET task_count = task_count + :delta WHERE id = :projectId", nativeQuery = true)
+    int adjustTaskCount(@Param("projectId") UUID projectId, @Param("delta") int delta);
+
+    /**
+     * Atomically advances the project's task sequence by {@code count} and returns the new
+     * high-water mark; the reserved numbers are {@code result - count + 1 .. result}.
+     */
+    @Query(value = "UPDATE projects SET task_seq = task_seq + :count WHERE id = :projectId RETURNING task_seq",
+            nativeQuery = true)
+    Long reserveTaskNumbers(@Param("projectId") UUID projectId, @Param("count") int count);
+
+    /**
+     * Advances the project's board version and returns it. The row lock taken here is held until
+     * commit, so versions of one project become visible in order.
+     */
+    @Query(value = "UPDATE projects SET board_version = board_version + 1 WHERE id = :projectId RETURNING board_version",
+            nativeQuery = true)
+    Long nextBoardVersion(@Param("projectId") UUID projectId);
+
+    /**
+     * Advances the project's board version by {@code count} and returns the new version; the
+     * reserved versions are {@code result - count + 1 .. result}.
+     */
+    @Query(value = "UPDATE projects SET board_version = board_version + :count WHERE id = :projectId RETURNING board_version",
+            nativeQuery = true)
+    Long reserveBoardVersions(@Param("projectId") UUID projectId, @Param("count") int count);
+
+    /**
+     * Locks the projects' rows in id order. Callers that go on to update several projects lock
+     * them here first, so two transactions touching the same projects cannot deadlock.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "SELECT id FROM projects WHERE id IN (:projectIds) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockInIdOrder(@Param("projectIds") Collection<UUID> projectIds);
+
+    @Query("select p.boardVersion from projects p where p.id = :projectId")
+    Optional<Long> findBoardVersion(@Param("projectId") UUID projectId);
+
+    /**
+     * Projects the user can see: public ones, their own, those they are a member of, and
+     * team-visible projects of their teams.
+     */
+    @Query("select p.id from projects p " +
+            "where p.visibility = com.taskmaster_springboot.model.enums.ProjectVisibility.PUBLIC " +
+            "   or p.owner.userId = :userId " +
+            "   or exists (select 1 from project_members pm where pm.project = p and pm.user.userId = :userId) " +
+            "   or (p.visibility = com.taskmaster_springboot.model.enums.ProjectVisibility.TEAM " +
+            "       and exists (select 1 from team_members tm where tm.team = p.team and tm.user.userId = :userId))")
+    List<UUID> findVisibleProjectIds(@Param("userId") UUID userId);
+
+    /** Whether the user can see the project, by the rules of {@link #findVisibleProjectIds}. */
+    @Query("select count(p) > 0 from projects p " +
+            "where p.id = :projectId " +
+            "  and (p.visibility = com.taskmaster_springboot.model.enums.ProjectVisibility.PUBLIC " +
+            "   or p.owner.userId = :userId " +
+            "   or exists (select 1 from project_members pm where pm.project = p and pm.user.userId = :userId) " +
+            "   or (p.visibility = com.taskmaster_springboot.model.enums.ProjectVisibility.TEAM " +
+            "       and exists (select 1 from team_members tm where tm.team = p.team and tm.user.userId = :userId)))")
+    boolean isVisibleTo(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    /**
+     * Raises each project's task sequence to the highest number already used in its task keys,
+     * for projects whose tasks were keyed before the sequence column existed.
+     */
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "UPDATE projects p SET task_seq = s.max_seq " +
+            "FROM (SELECT project_id, max(cast(substring(key from '([0-9]+)$') AS bigint)) AS max_seq " +
+            "      FROM tasks GROUP BY project_id) s " +
+            "WHERE s.project_id = p.id AND p.task_seq < s.max_seq", nativeQuery = true)
+    int alignTaskSequences();
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "UPDATE projects p SET task_count = c.cnt " +
+            "FROM (SELECT p2.id, count(t.id) AS cnt FROM projects p2 " +
+            "      LEFT JOIN tasks t ON t.project_id = p2.id AND t.archived = false GROUP BY p2.id) c " +
+            "WHERE c.id = p.id AND p.task_count <> c.cnt", nativeQuery = true)
+    int reconcileTaskCounts();
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "UPDATE projects p SET member_count = c.cnt " +
+            "FROM (SELECT p2.id, count(pm.user_id) AS cnt FROM projects p2 " +
+            "      LEFT JOIN project_members pm ON pm.project_id = p2.id GROUP BY p2.id) c " +
+            "WHERE c.id = p.id AND p.member_count <> c.cnt", nativeQuery = true)
+    int reconcileMemberCounts();
 }
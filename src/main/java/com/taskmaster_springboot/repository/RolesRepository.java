@@ -2,7 +2,10 @@ package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.Roles;
 import com.taskmaster_springboot.model.enums.RoleName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,5 +13,7 @@ import java.util.UUID;
 
 @Repository
 public interface RolesRepository extends JpaRepository<Roles, Long> {
+    // Looked up on every registration and role change; cached until the roles table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Roles> findByName(RoleName name);
 }
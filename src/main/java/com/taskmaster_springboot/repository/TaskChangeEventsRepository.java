@@ -0,0 +1,35 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.TaskChangeEvents;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskChangeEventsRepository extends JpaRepository<TaskChangeEvents, Long> {
+
+    @Query("select e from task_change_events e where e.projectId = :projectId and e.version > :sinceVersion " +
+            "order by e.version")
+    List<TaskChangeEvents> findSince(@Param("projectId") UUID projectId,
+                                     @Param("sinceVersion") long sinceVersion,
+                                     Limit limit);
+
+    @Query("select distinct e.taskId from task_change_events e where e.createdAt >= :since")
+    List<UUID> findTaskIdsChangedSince(@Param("since") Instant since);
+
+    @Query("select min(e.version) from task_change_events e where e.projectId = :projectId")
+    Long findOldestVersion(@Param("projectId") UUID projectId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from task_change_events e where e.createdAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
@@ -1,13 +1,20 @@
 package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.TaskComments;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TaskCommentsRepository extends JpaRepository<TaskComments, UUID> {
+    // Comment responses carry the author's name: authors come in the same query
+    @EntityGraph(attributePaths = "author")
     List<TaskComments> findByTaskId(UUID taskId);
+
+    @EntityGraph(attributePaths = "author")
+    Optional<TaskComments> findWithAuthorById(UUID id);
 }
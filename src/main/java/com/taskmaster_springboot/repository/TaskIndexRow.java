@@ -0,0 +1,15 @@
+package com.taskmaster_springboot.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The fields of a task the typeahead index holds.
+ */
+public record TaskIndexRow(
+        UUID id,
+        UUID projectId,
+        String key,
+        String title,
+        List<String> tags) {
+}
@@ -0,0 +1,24 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Builder
+public record TaskPageCriteria(
+        UUID projectId,
+        UUID assigneeId,
+        TaskStatus status,
+        TaskPriority priority,
+        boolean archived,
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        Instant afterCreatedAt,
+        UUID afterId,
+        Integer limit
+) {
+}
@@ -0,0 +1,17 @@
+package com.taskmaster_springboot.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskPageRepository {
+
+    /**
+     * Keyset page over tasks ordered by (createdAt, id). Only the predicates set on the
+     * criteria are rendered into SQL, and each row is a {@link TaskView} built in the same
+     * statement, so a page costs one round trip.
+     */
+    List<TaskView> findPage(TaskPageCriteria criteria);
+
+    Optional<TaskView> findViewById(UUID taskId);
+}
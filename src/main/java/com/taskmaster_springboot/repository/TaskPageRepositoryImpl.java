@@ -0,0 +1,113 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.model.Users;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+class TaskPageRepositoryImpl implements TaskPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskView> findPage(TaskPageCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Tasks> task = query.from(Tasks.class);
+
+        selectView(cb, query, task)
+                .where(buildPredicates(cb, task, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.asc(task.get("createdAt")), cb.asc(task.get("id")));
+
+        TypedQuery<TaskView> typedQuery = entityManager.createQuery(query);
+        if (criteria.limit() != null) {
+            typedQuery.setMaxResults(criteria.limit());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Optional<TaskView> findViewById(UUID taskId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Tasks> task = query.from(Tasks.class);
+
+        selectView(cb, query, task).where(cb.equal(task.get("id"), taskId));
+
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    private CriteriaQuery<TaskView> selectView(CriteriaBuilder cb, CriteriaQuery<TaskView> query, Root<Tasks> task) {
+        Join<Tasks, Users> assignee = task.join("assignee", JoinType.LEFT);
+
+        return query.select(cb.construct(TaskView.class,
+                task.get("id"),
+                task.get("project").get("id"),
+                task.get("key"),
+                task.get("title"),
+                task.get("description"),
+                task.get("status"),
+                task.get("priority"),
+                assignee.get("userId"),
+                assignee.get("firstName"),
+                assignee.get("lastName"),
+                task.get("reporter").get("userId"),
+                task.get("startDate"),
+                task.get("dueDate"),
+                task.get("estimateMinutes"),
+                task.get("timeSpentMinutes"),
+                task.get("tags"),
+                task.get("commentCount"),
+                task.get("createdAt"),
+                task.get("updatedAt"),
+                task.get("archived")));
+    }
+
+    private List<Predicate> buildPredicates(CriteriaBuilder cb, Root<Tasks> task, TaskPageCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(cb.equal(task.get("archived"), criteria.archived()));
+        if (criteria.projectId() != null) {
+            predicates.add(cb.equal(task.get("project").get("id"), criteria.projectId()));
+        }
+        if (criteria.assigneeId() != null) {
+            predicates.add(cb.equal(task.get("assignee").get("userId"), criteria.assigneeId()));
+        }
+        if (criteria.status() != null) {
+            predicates.add(cb.equal(task.get("status"), criteria.status()));
+        }
+        if (criteria.priority() != null) {
+            predicates.add(cb.equal(task.get("priority"), criteria.priority()));
+        }
+        if (criteria.dueFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(task.<LocalDate>get("dueDate"), criteria.dueFrom()));
+        }
+        if (criteria.dueTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(task.<LocalDate>get("dueDate"), criteria.dueTo()));
+        }
+        if (criteria.afterCreatedAt() != null) {
+            // Row-value comparison (created_at, id) > (:createdAt, :id), spelled out for JPA
+            predicates.add(cb.or(
+                    cb.greaterThan(task.<Instant>get("createdAt"), criteria.afterCreatedAt()),
+                    cb.and(
+                            cb.equal(task.get("createdAt"), criteria.afterCreatedAt()),
+                            cb.greaterThan(task.<UUID>get("id"), criteria.afterId()))));
+        }
+        return predicates;
+    }
+}
@@ -3,15 +3,64 @@ package com.taskmaster_springboot.repository;
 import com.taskmaster_springboot.model.Projects;
 import com.taskmaster_springboot.model.Tasks;
 import com.taskmaster_springboot.model.Users;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Tasks, UUID> {
+public interface TaskRepository extends JpaRepository<Tasks, UUID>, TaskPageRepository, TaskSearchRepository {
     List<Tasks> findByProject(Projects project);
     List<Tasks> findByAssignee(Users assignee);
-    long countByProject(Projects project);
+
+    // Task responses built from the entity carry the assignee's name
+    @EntityGraph(attributePaths = "assignee")
+    Optional<Tasks> findWithAssigneeById(UUID id);
+
+    // Bulk operations: the tasks and their assignees in one query
+    @Query("select t from tasks t left join fetch t.assignee where t.id in :ids")
+    List<Tasks> findAllWithAssigneeByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("update tasks t set t.commentCount = t.commentCount + :delta where t.id = :taskId")
+    int adjustCommentCount(@Param("taskId") UUID taskId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update tasks t set t.commentCount = (select count(c) from task_comments c where c.task.id = :taskId) where t.id = :taskId")
+    int refreshCommentCount(@Param("taskId") UUID taskId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "UPDATE tasks t SET comment_count = c.cnt " +
+            "FROM (SELECT t2.id, count(tc.id) AS cnt FROM tasks t2 " +
+            "      LEFT JOIN task_comments tc ON tc.task_id = t2.id GROUP BY t2.id) c " +
+            "WHERE c.id = t.id AND t.comment_count <> c.cnt", nativeQuery = true)
+    int reconcileCommentCounts();
+
+    // Typeahead index loader: every live task, fetched from the cursor in chunks. Must be
+    // consumed (and closed) inside a transaction, or the driver reads the whole result at once.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.taskmaster_springboot.repository.TaskIndexRow(t.id, t.project.id, t.key, t.title, t.tags) " +
+            "from tasks t where t.archived = false")
+    Stream<TaskIndexRow> streamIndexRows();
+
+    @Query("select new com.taskmaster_springboot.repository.TaskIndexRow(t.id, t.project.id, t.key, t.title, t.tags) " +
+            "from tasks t where t.archived = false and t.id in :ids")
+    List<TaskIndexRow> findIndexRowsByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,22 @@
+package com.taskmaster_springboot.repository;
+
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Full-text task search. {@code viewerId} limits the results to projects the user can see;
+ * a null viewer searches every project (administrators). At most {@code maxCandidates}
+ * matching tasks, the most recently updated ones, are ranked, which bounds the cost of very
+ * broad queries.
+ */
+@Builder
+public record TaskSearchCriteria(
+        String query,
+        UUID viewerId,
+        UUID projectId,
+        int maxCandidates,
+        int offset,
+        int limit
+) {
+}
@@ -0,0 +1,26 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A ranked search result. The highlights are HTML: the text with {@code &}, {@code <} and
+ * {@code >} escaped, and matched terms wrapped in {@code <mark>...</mark>}.
+ */
+public record TaskSearchHit(
+        UUID id,
+        UUID projectId,
+        String key,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        UUID assigneeId,
+        Instant updatedAt,
+        double rank,
+        String titleHighlight,
+        String snippet
+) {
+}
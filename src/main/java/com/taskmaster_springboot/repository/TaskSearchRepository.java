@@ -0,0 +1,14 @@
+package com.taskmaster_springboot.repository;
+
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    /**
+     * Ranked full-text search over the tasks' search_vector (key, title, tags, description and
+     * comments), best match first. Archived tasks are excluded. Highlights are computed for the
+     * returned rows only. When more than {@code maxCandidates} tasks match, only the most
+     * recently updated {@code maxCandidates} of them are ranked.
+     */
+    List<TaskSearchHit> search(TaskSearchCriteria criteria);
+}
@@ -0,0 +1,110 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    // Projects a user sees: public ones, their own, those they are a member of, and
+    // team-visible projects of their teams
+    private static final String VISIBLE_PROJECTS =
+            "SELECT p.id FROM projects p " +
+            "WHERE p.visibility = 'PUBLIC' OR p.owner_id = :viewerId " +
+            "   OR EXISTS (SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id = :viewerId) " +
+            "   OR (p.visibility = 'TEAM' AND EXISTS (SELECT 1 FROM team_members tm " +
+            "                                         WHERE tm.team_id = p.team_id AND tm.user_id = :viewerId))";
+
+    private static final String HIGHLIGHT_OPTIONS = "StartSel=<mark>, StopSel=</mark>";
+
+    // Highlights are HTML: the text is escaped before ts_headline adds its <mark> tags, so no
+    // markup stored in a task survives, and the tags cannot collide with text (which has no '<')
+    private static final String ESCAPED_TITLE = escapeHtml("t.title");
+    private static final String ESCAPED_DESCRIPTION = escapeHtml("coalesce(t.description, '')");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskSearchHit> search(TaskSearchCriteria criteria) {
+        StringBuilder sql = new StringBuilder()
+                .append("WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), ")
+                // The query is repeated here rather than read from q so the planner sees how
+                // common its terms are and picks between the index and a scan.
+                // Past maxCandidates matches, the most recently updated ones are ranked: a top-N
+                // sort on a unique order, so the same query ranks the same tasks every time
+                .append("candidates AS (")
+                .append("  SELECT t.id, t.search_vector FROM tasks t ")
+                .append("  WHERE t.search_vector @@ websearch_to_tsquery('english', :query) AND t.archived = false");
+        if (criteria.projectId() != null) {
+            sql.append(" AND t.project_id = :projectId");
+        }
+        if (criteria.viewerId() != null) {
+            sql.append(" AND t.project_id IN (").append(VISIBLE_PROJECTS).append(")");
+        }
+        sql.append("  ORDER BY t.updated_at DESC, t.id DESC LIMIT :maxCandidates), ")
+                .append("hits AS (")
+                .append("  SELECT c.id, ts_rank(c.search_vector, q.query, 1) AS rank FROM candidates c, q ")
+                .append("  ORDER BY rank DESC, c.id DESC LIMIT :limit OFFSET :offset) ")
+                .append("SELECT t.id, t.project_id, t.key, t.title, t.status, t.priority, t.assignee_id, t.updated_at, ")
+                .append("       h.rank, ")
+                .append("       ts_headline('english', ").append(ESCAPED_TITLE).append(", q.query, 'HighlightAll=true, ")
+                .append(HIGHLIGHT_OPTIONS).append("') AS title_highlight, ")
+                .append("       ts_headline('english', ").append(ESCAPED_DESCRIPTION).append(", q.query, ")
+                .append("                   'MaxFragments=2, MaxWords=25, MinWords=8, ")
+                .append(HIGHLIGHT_OPTIONS).append("') AS snippet ")
+                .append("FROM hits h JOIN tasks t ON t.id = h.id, q ")
+                .append("ORDER BY h.rank DESC, h.id DESC");
+
+        NativeQuery<?> query = entityManager.createNativeQuery(sql.toString())
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("project_id", UUID.class)
+                .addScalar("key", String.class)
+                .addScalar("title", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("assignee_id", UUID.class)
+                .addScalar("updated_at", Instant.class)
+                .addScalar("rank", Double.class)
+                .addScalar("title_highlight", String.class)
+                .addScalar("snippet", String.class);
+
+        query.setParameter("query", criteria.query());
+        query.setParameter("maxCandidates", criteria.maxCandidates());
+        query.setParameter("limit", criteria.limit());
+        query.setParameter("offset", criteria.offset());
+        if (criteria.projectId() != null) {
+            query.setParameter("projectId", criteria.projectId());
+        }
+        if (criteria.viewerId() != null) {
+            query.setParameter("viewerId", criteria.viewerId());
+        }
+
+        return query.getResultList().stream()
+                .map(row -> (Object[]) row)
+                .map(row -> new TaskSearchHit(
+                        (UUID) row[0],
+                        (UUID) row[1],
+                        (String) row[2],
+                        (String) row[3],
+                        TaskStatus.valueOf((String) row[4]),
+                        TaskPriority.valueOf((String) row[5]),
+                        (UUID) row[6],
+                        (Instant) row[7],
+                        (Double) row[8],
+                        (String) row[9],
+                        (String) row[10]))
+                .toList();
+    }
+
+    private static String escapeHtml(String column) {
+        return "replace(replace(replace(" + column + ", '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+    }
+}
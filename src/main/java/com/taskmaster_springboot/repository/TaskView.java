@@ -0,0 +1,37 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Flat read model of a task row with the assignee name already joined in,
+ * so list endpoints never touch lazy associations.
+ */
+public record TaskView(
+        UUID id,
+        UUID projectId,
+        String key,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        UUID assigneeId,
+        String assigneeFirstName,
+        String assigneeLastName,
+        UUID reporterId,
+        LocalDate startDate,
+        LocalDate dueDate,
+        Integer estimateMinutes,
+        Integer timeSpentMinutes,
+        List<String> tags,
+        Integer commentCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Boolean archived
+) {
+}
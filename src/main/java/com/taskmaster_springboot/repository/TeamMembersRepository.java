@@ -2,6 +2,7 @@ package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.TeamMembers;
 import com.taskmaster_springboot.model.TeamMembersId;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,6 +13,8 @@ import java.util.UUID;
 
 @Repository
 public interface TeamMembersRepository extends JpaRepository<TeamMembers, TeamMembersId> {
+    // Team list of a user: the teams come in the same query
+    @EntityGraph(attributePaths = "team")
     @Query("SELECT tm FROM team_members tm WHERE tm.user.userId = :userid")
     List<TeamMembers> findByUserId(@Param("userid") UUID userid);
 }
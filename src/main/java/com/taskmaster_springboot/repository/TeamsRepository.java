@@ -1,11 +1,26 @@
 package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.Teams;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
 @Repository
 public interface TeamsRepository extends JpaRepository<Teams, UUID> {
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "teams"))
+    @Query(value = "UPDATE teams t SET member_count = c.cnt " +
+            "FROM (SELECT t2.id, count(tm.user_id) AS cnt FROM teams t2 " +
+            "      LEFT JOIN team_members tm ON tm.team_id = t2.id GROUP BY t2.id) c " +
+            "WHERE c.id = t.id AND t.member_count <> c.cnt", nativeQuery = true)
+    int reconcileMemberCounts();
 }
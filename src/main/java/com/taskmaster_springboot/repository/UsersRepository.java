@@ -1,11 +1,13 @@
 package com.taskmaster_springboot.repository;
 
 import com.taskmaster_springboot.model.Users;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,8 +18,27 @@ public interface UsersRepository extends JpaRepository<Users, UUID> {
     Optional<Users> findByEmailOrUsername(@Param("emailOrUsername") String emailOrUsername);
 
     Users findByEmail(String email);
+
+    @Query("SELECT u.userId FROM users u WHERE u.email = :email")
+    Optional<UUID> findIdByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
 
     Users findByPasswordResetToken(String token);
 
+    // Single-column lookups (each served by its unique index) with roles fetched in the same query
+    @EntityGraph(attributePaths = "roles")
+    Optional<Users> findWithRolesByEmail(String email);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<Users> findWithRolesByUsername(String username);
+
+    @EntityGraph(attributePaths = "roles")
+    Optional<Users> findWithRolesByUserId(UUID userId);
+
+    // Admin user list: every user with their roles in one query
+    @EntityGraph(attributePaths = "roles")
+    @Query("SELECT u FROM users u")
+    List<Users> findAllWithRoles();
+
 }
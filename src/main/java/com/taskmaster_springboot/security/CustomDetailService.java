@@ -1,5 +1,6 @@
 package com.taskmaster_springboot.security;
 
+import com.taskmaster_springboot.config.ReplicaRoutingDataSource;
 import com.taskmaster_springboot.model.Users;
 import com.taskmaster_springboot.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,8 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class CustomDetailService implements UserDetailsService {
@@ -16,11 +19,25 @@ public class CustomDetailService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String usernameoremail) throws UsernameNotFoundException {
 
-        Users user =usersRepository.findByEmailOrUsername(usernameoremail).orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + usernameoremail));
+        Users user = findUser(usernameoremail).orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + usernameoremail));
         return createUserPrincipal(user);
 
     }
 
+    // On the primary: a lagging replica would not know new users yet and would hand the principal
+    // cache outdated roles and account status
+    private Optional<Users> findUser(String usernameoremail) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> findUserByUsernameOrEmail(usernameoremail));
+    }
+
+    private Optional<Users> findUserByUsernameOrEmail(String usernameoremail) {
+        if (usernameoremail.contains("@")) {
+            return usersRepository.findWithRolesByEmail(usernameoremail)
+                    .or(() -> usersRepository.findWithRolesByUsername(usernameoremail));
+        }
+        return usersRepository.findWithRolesByUsername(usernameoremail);
+    }
+
     private UserDetails createUserPrincipal(Users user) {
 
         try{
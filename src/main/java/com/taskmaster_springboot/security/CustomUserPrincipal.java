@@ -55,6 +55,10 @@ public class CustomUserPrincipal implements UserDetails {
         return principal;
     }
 
+    public UUID getUserId() {
+        return userId;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
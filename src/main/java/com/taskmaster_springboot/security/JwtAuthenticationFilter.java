@@ -1,6 +1,7 @@
 package com.taskmaster_springboot.security;
 
 import com.taskmaster_springboot.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,9 +26,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomDetailService userDetailsService;
+    private final PrincipalCache principalCache;
 
     private static final List<String> PUBLIC_ENDPOINTS = Arrays.asList(
-            "/",
             "/auth/register",
             "/auth/login",
             "/auth/verify-token",
@@ -35,7 +36,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/auth/reset-password",
             "/swagger-ui",
             "/v3/api-docs",
-            "/webjars"
+            "/webjars",
+            "/ws/"
     );
 
     @Override
@@ -72,16 +74,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 4. Extract username
-        String username;
+        // 4. Verify the token once and extract username
+        Claims claims;
         try {
-            username = jwtService.extractUsername(token);
+            claims = jwtService.verifyToken(token);
         } catch (Exception e) {
             log.warn("❌ Invalid JWT token: {}", e.getMessage());
             filterChain.doFilter(request, response);
             return;
         }
 
+        if (claims == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        request.setAttribute(JwtService.VERIFIED_CLAIMS_ATTRIBUTE, claims);
+        String username = claims.getSubject();
+
         if (username == null || username.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
@@ -90,10 +100,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 5. Check if already authenticated
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // Load user
+            // Load user (cached per subject)
             UserDetails userDetails;
             try {
-                userDetails = userDetailsService.loadUserByUsername(username);
+                userDetails = principalCache.get(username, userDetailsService::loadUserByUsername);
             } catch (Exception e) {
                 log.warn("❌ Cannot load user: {}", username);
                 filterChain.doFilter(request, response);
@@ -103,7 +113,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Validate token
             boolean isValid;
             try {
-                isValid = jwtService.isTokenValid(token, userDetails);
+                isValid = jwtService.isTokenValid(claims, userDetails);
             } catch (Exception e) {
                 log.warn("❌ Token validation failed: {}", e.getMessage());
                 filterChain.doFilter(request, response);
@@ -138,6 +148,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (path == null) return false;
         String p = path.toLowerCase();
 
-        return PUBLIC_ENDPOINTS.stream().anyMatch(p::startsWith);
+        // "/" is public only by itself; as a prefix it would match every path
+        return p.equals("/") || PUBLIC_ENDPOINTS.stream().anyMatch(p::startsWith);
     }
 }
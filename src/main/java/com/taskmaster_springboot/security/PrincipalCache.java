@@ -0,0 +1,77 @@
+package com.taskmaster_springboot.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmaster_springboot.model.Users;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-based cache of authenticated principals keyed by JWT subject, so the
+ * authentication filter does not hit the database for users it has seen recently.
+ * Hit/miss/eviction counts are published as {@code cache.*} metrics under the name "principals".
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(@Value("${app.security.principal-cache.ttl:5m}") Duration ttl,
+                          @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    /**
+     * Returns the cached principal for the subject, loading it on a miss. Loader failures
+     * (e.g. unknown user) propagate and are not cached.
+     */
+    public UserDetails get(String subject, Function<String, UserDetails> loader) {
+        return cache.get(subject, loader);
+    }
+
+    /**
+     * Drops every entry the user can be cached under (tokens carry either username or email).
+     * When called inside a transaction the entries are dropped again after commit, so a request
+     * racing the change cannot re-cache the old state.
+     */
+    public void invalidate(Users user) {
+        evict(user.getUsername(), user.getEmail());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            String username = user.getUsername();
+            String email = user.getEmail();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username, email);
+                }
+            });
+        }
+    }
+
+    private void evict(String username, String email) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+        if (email != null) {
+            cache.invalidate(email);
+        }
+        log.debug("Evicted cached principal for user: {}", username);
+    }
+}
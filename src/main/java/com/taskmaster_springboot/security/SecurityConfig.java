@@ -40,6 +40,8 @@ public class SecurityConfig {
                         .requestMatchers("/v3/api-docs/**").permitAll()
                         .requestMatchers("/v3/api-docs").permitAll()
                         .requestMatchers("/webjars/**").permitAll()
+                        // WebSocket handshake; STOMP CONNECT frames carry the JWT
+                        .requestMatchers("/ws/**").permitAll()
                         // All other requests need authentication
                         .anyRequest().authenticated()
                 )
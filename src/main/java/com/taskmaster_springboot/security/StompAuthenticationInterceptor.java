@@ -0,0 +1,122 @@
+package com.taskmaster_springboot.security;
+
+import com.taskmaster_springboot.config.ReplicaRoutingDataSource;
+import com.taskmaster_springboot.exceptions.AuthenticationException;
+import com.taskmaster_springboot.model.enums.RoleName;
+import com.taskmaster_springboot.repository.ProjectRepository;
+import com.taskmaster_springboot.service.JwtService;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Authenticates STOMP sessions from the {@code Authorization: Bearer <jwt>} header of the
+ * CONNECT frame, the same way {@link JwtAuthenticationFilter} does for HTTP requests. The
+ * principal name (the user's email) is what {@code /user/queue/**} destinations resolve to.
+ * <p>
+ * SUBSCRIBE frames are authorized per destination: the session's own {@code /user/**} queues,
+ * and {@code /topic/projects/{projectId}/tasks} for projects the user can see (admins see all).
+ * Any other destination, including the broker's raw queues and internal topics, is refused.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+    private static final String ADMIN_AUTHORITY = "ROLE_" + RoleName.ADMIN;
+    private static final Pattern PROJECT_TASKS = Pattern.compile(
+            "/topic/projects/([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12})/tasks");
+
+    private final JwtService jwtService;
+    private final CustomDetailService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            authorizeSubscription(accessor);
+            return message;
+        }
+        if (accessor.getCommand() != StompCommand.CONNECT) {
+            return message;
+        }
+
+        String authHeader = accessor.getFirstNativeHeader("Authorization");
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new AuthenticationException("Missing bearer token");
+        }
+
+        Claims claims;
+        try {
+            claims = jwtService.verifyToken(authHeader.substring(7).trim());
+        } catch (Exception e) {
+            log.warn("❌ Invalid JWT token on STOMP connect: {}", e.getMessage());
+            throw new AuthenticationException("Invalid token");
+        }
+        if (claims == null || claims.getSubject() == null) {
+            throw new AuthenticationException("Invalid token");
+        }
+
+        UserDetails userDetails = principalCache.get(claims.getSubject(), userDetailsService::loadUserByUsername);
+        if (!jwtService.isTokenValid(claims, userDetails)) {
+            throw new AuthenticationException("Invalid token");
+        }
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+        return message;
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            throw new AccessDeniedException("Missing destination");
+        }
+        if (destination.startsWith(USER_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        Matcher matcher = PROJECT_TASKS.matcher(destination);
+        if (matcher.matches()
+                && accessor.getUser() instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof CustomUserPrincipal principal
+                && (isAdmin(authentication) || canSee(UUID.fromString(matcher.group(1)), principal.getUserId()))) {
+            return;
+        }
+
+        log.warn("❌ STOMP subscription to {} refused for {}", destination,
+                accessor.getUser() != null ? accessor.getUser().getName() : "anonymous");
+        throw new AccessDeniedException("Not allowed to subscribe to " + destination);
+    }
+
+    // On the primary: a user just added to a project subscribes right away, and a lagging
+    // replica would refuse them
+    private boolean canSee(UUID projectId, UUID userId) {
+        return ReplicaRoutingDataSource.readFromPrimary(() -> projectRepository.isVisibleTo(projectId, userId));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()));
+    }
+}
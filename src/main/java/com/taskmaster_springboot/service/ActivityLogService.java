@@ -1,13 +1,14 @@
 package com.taskmaster_springboot.service;
 
+import com.taskmaster_springboot.dto.request.ActivityLogFilterRequestDTO;
 import com.taskmaster_springboot.dto.response.ActivityLogResponseDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ActivityLogService {
     void logActivity(UUID actorId, String action, String entityType, UUID entityId, String data);
-    List<ActivityLogResponseDTO> getEntityActivityLog(UUID entityId);
-    List<ActivityLogResponseDTO> getUserActivityLog(UUID userId);
-    List<ActivityLogResponseDTO> getProjectActivityLog(UUID projectId);
+    CursorPageResponseDTO<ActivityLogResponseDTO> getEntityActivityLog(UUID entityId, ActivityLogFilterRequestDTO filter);
+    CursorPageResponseDTO<ActivityLogResponseDTO> getUserActivityLog(UUID userId, ActivityLogFilterRequestDTO filter);
+    CursorPageResponseDTO<ActivityLogResponseDTO> getProjectActivityLog(UUID projectId, ActivityLogFilterRequestDTO filter);
 }
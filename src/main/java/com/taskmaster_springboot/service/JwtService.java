@@ -1,8 +1,12 @@
 package com.taskmaster_springboot.service;
 
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
 public interface JwtService {
+    /** Request attribute under which the authentication filter stores the verified claims. */
+    String VERIFIED_CLAIMS_ATTRIBUTE = JwtService.class.getName() + ".CLAIMS";
+
     String generateToken(String username);
     String generateToken(String username, Long userId);// New
     String generateRefreshToken(String username);
@@ -10,6 +14,9 @@ public interface JwtService {
     String extractUsername(String token);
     Long extractUserId(String token);// New
     Boolean isTokenValid(String token, UserDetails userDetails);
+    // Parses and verifies the token once; null when the signature, format or expiry is invalid
+    Claims verifyToken(String token);
+    Boolean isTokenValid(Claims claims, UserDetails userDetails);
     Boolean isTokenExpired(String token);
     Boolean revokeToken(String token);
     Long getExpirationTime();
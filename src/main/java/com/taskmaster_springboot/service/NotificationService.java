@@ -1,5 +1,7 @@
 package com.taskmaster_springboot.service;
 
+import com.taskmaster_springboot.dto.request.NotificationFilterRequestDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 import com.taskmaster_springboot.dto.response.NotificationResponseDTO;
 
 import java.util.List;
@@ -7,7 +9,11 @@ import java.util.UUID;
 
 public interface NotificationService {
     void sendNotification(UUID userId, String type, String message);
+    // taskId lets the digest job merge repeated notifications about the same task
+    void sendNotification(UUID userId, String type, String message, UUID taskId);
     List<NotificationResponseDTO> getUserNotifications(String email);
+    CursorPageResponseDTO<NotificationResponseDTO> getUserNotificationsPage(String email, NotificationFilterRequestDTO filter);
+    long getUnreadCount(String email);
     void markNotificationAsRead(UUID notificationId);
     void markAllNotificationsAsRead(String email);
     void deleteNotification(UUID notificationId);
@@ -0,0 +1,8 @@
+package com.taskmaster_springboot.service;
+
+import com.taskmaster_springboot.dto.request.TaskSearchRequestDTO;
+import com.taskmaster_springboot.dto.response.TaskSearchResponseDTO;
+
+public interface TaskSearchService {
+    TaskSearchResponseDTO search(TaskSearchRequestDTO request, String email);
+}
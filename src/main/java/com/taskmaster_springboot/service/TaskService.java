@@ -1,19 +1,32 @@
 package com.taskmaster_springboot.service;
 
+import com.taskmaster_springboot.dto.request.TaskBulkRequestDTO;
 import com.taskmaster_springboot.dto.request.TaskCreateRequestDTO;
+import com.taskmaster_springboot.dto.request.TaskFilterRequestDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskBoardDTO;
+import com.taskmaster_springboot.dto.response.TaskBulkResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskChangeFeedDTO;
 import com.taskmaster_springboot.dto.response.TaskResponseDTO;
+import com.taskmaster_springboot.model.enums.TaskExportFormat;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
 public interface TaskService {
     TaskResponseDTO createTask(TaskCreateRequestDTO request, String email);
     TaskResponseDTO getTaskById(UUID taskId);
-    List<TaskResponseDTO> getProjectTasks(UUID projectId);
+    TaskBoardDTO getProjectTaskBoard(UUID projectId);
+    void exportProjectTasks(UUID projectId, TaskExportFormat format, boolean archived, OutputStream out);
     List<TaskResponseDTO> getUserAssignedTasks(String email);
     TaskResponseDTO updateTask(UUID taskId, TaskCreateRequestDTO request, String email);
     void deleteTask(UUID taskId, String email);
     void assignTask(UUID taskId, UUID assigneeId, String email);
     void updateTaskStatus(UUID taskId, String status, String email);
-    List<TaskResponseDTO> filterTasks(UUID projectId, String status, String priority, String assigneeId);
+    TaskBulkResponseDTO applyBulkOperations(TaskBulkRequestDTO request, String email);
+    CursorPageResponseDTO<TaskResponseDTO> filterTasks(UUID projectId, TaskFilterRequestDTO filter);
+    CursorPageResponseDTO<TaskResponseDTO> getUserAssignedTasksPage(String email, TaskFilterRequestDTO filter);
+    long getBoardVersion(UUID projectId);
+    TaskChangeFeedDTO getTaskChanges(UUID projectId, long sinceVersion, Integer limit);
 }
@@ -0,0 +1,12 @@
+package com.taskmaster_springboot.service;
+
+import com.taskmaster_springboot.dto.request.TaskTypeaheadRequestDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadIndexStatusDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadResponseDTO;
+
+public interface TaskTypeaheadService {
+    TaskTypeaheadResponseDTO typeahead(TaskTypeaheadRequestDTO request, String email);
+    TaskTypeaheadIndexStatusDTO getIndexStatus();
+    TaskTypeaheadIndexStatusDTO checkIndex();
+    TaskTypeaheadIndexStatusDTO rebuildIndex();
+}
@@ -1,18 +1,25 @@
 package com.taskmaster_springboot.service.impl;
 
+import com.taskmaster_springboot.dto.request.ActivityLogFilterRequestDTO;
 import com.taskmaster_springboot.dto.response.ActivityLogResponseDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
-import com.taskmaster_springboot.model.ActivityLogs;
-import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.jobs.ActivityLogWriter;
+import com.taskmaster_springboot.repository.ActivityLogPageCriteria;
+import com.taskmaster_springboot.repository.ActivityLogView;
 import com.taskmaster_springboot.repository.ActivityLogsRepository;
 import com.taskmaster_springboot.repository.UsersRepository;
 import com.taskmaster_springboot.service.ActivityLogService;
+import com.taskmaster_springboot.utils.ActivityLogArchiveStore;
+import com.taskmaster_springboot.utils.CursorCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -23,62 +30,121 @@ import java.util.stream.Collectors;
 @Transactional
 public class ActivityLogServiceImpl implements ActivityLogService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final ActivityLogsRepository activityLogsRepository;
     private final UsersRepository usersRepository;
+    private final ActivityLogWriter activityLogWriter;
+    private final ActivityLogArchiveStore activityLogArchiveStore;
 
+    /**
+     * Hands the entry to the ActivityLogWriter; see app.activity-log.mode for when it is persisted.
+     * Joins the caller's transaction if there is one but never opens its own.
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logActivity(UUID actorId, String action, String entityType, UUID entityId, String data) {
-        Users actor = usersRepository.findById(actorId)
-                .orElseThrow(() -> new ResourceNotFoundException("Actor not found"));
-
-        ActivityLogs logs = ActivityLogs.builder()
-                .actor(actor)
-                .action(action)
-                .entityType(entityType)
-                .entityId(entityId)
-                .data(data)
-                .createdAt(Instant.now())
-                .build();
-
-        activityLogsRepository.save(logs);
-        log.info("Activity logged: {} - {}", action, entityType);
+        activityLogWriter.write(new ActivityLogWriter.Entry(
+                actorId, action, entityType, entityId, data, null, null, Instant.now()));
+        log.debug("Activity logged: {} - {}", action, entityType);
     }
 
     @Override
-    public List<ActivityLogResponseDTO> getEntityActivityLog(UUID entityId) {
-        return activityLogsRepository.findByEntityId(entityId).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ActivityLogResponseDTO> getEntityActivityLog(UUID entityId, ActivityLogFilterRequestDTO filter) {
+        return findLogPage(ActivityLogPageCriteria.builder().entityId(entityId), filter);
     }
 
     @Override
-    public List<ActivityLogResponseDTO> getUserActivityLog(UUID userId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ActivityLogResponseDTO> getUserActivityLog(UUID userId, ActivityLogFilterRequestDTO filter) {
+        if (!usersRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found");
+        }
 
-        return activityLogsRepository.findByActor(user).stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return findLogPage(ActivityLogPageCriteria.builder().actorId(userId), filter);
     }
 
     @Override
-    public List<ActivityLogResponseDTO> getProjectActivityLog(UUID projectId) {
-        return activityLogsRepository.findByEntityId(projectId).stream()
-                .filter(log -> "PROJECT".equals(log.getEntityType()))
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<ActivityLogResponseDTO> getProjectActivityLog(UUID projectId, ActivityLogFilterRequestDTO filter) {
+        return findLogPage(ActivityLogPageCriteria.builder().entityType("PROJECT").entityId(projectId), filter);
+    }
+
+    private CursorPageResponseDTO<ActivityLogResponseDTO> findLogPage(ActivityLogPageCriteria.ActivityLogPageCriteriaBuilder criteria,
+                                                                      ActivityLogFilterRequestDTO filter) {
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+        CursorCodec.Cursor cursor = CursorCodec.decode(filter.getCursor());
+
+        criteria.action(filter.getAction())
+                .from(filter.getFrom())
+                .to(filter.getTo())
+                .beforeCreatedAt(cursor != null ? cursor.createdAt() : null)
+                .beforeId(cursor != null ? parseCursorId(cursor) : null)
+                .limit(size + 1);
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<ActivityLogView> rows = activityLogsRepository.findPage(criteria.build());
+        // Archived row groups are decompressed and scanned in full, so only on request
+        if (rows.size() <= size && Boolean.TRUE.equals(filter.getIncludeArchived()) && activityLogArchiveStore.isEnabled()) {
+            rows = appendArchived(rows, criteria, size + 1);
+        }
+        boolean hasMore = rows.size() > size;
+        List<ActivityLogView> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ActivityLogView last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.createdAt(), last.id());
+        }
+
+        return CursorPageResponseDTO.<ActivityLogResponseDTO>builder()
+                .items(page.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+
+    /**
+     * Continues a page into the archived months once the partitions run out, keeping the
+     * same newest-first keyset so cursors work across both.
+     */
+    private List<ActivityLogView> appendArchived(List<ActivityLogView> rows,
+                                                 ActivityLogPageCriteria.ActivityLogPageCriteriaBuilder criteria,
+                                                 int limit) {
+        if (!rows.isEmpty()) {
+            ActivityLogView last = rows.get(rows.size() - 1);
+            criteria.beforeCreatedAt(last.createdAt()).beforeId(last.id());
+        }
+        List<ActivityLogView> archived = activityLogArchiveStore.findPage(criteria.limit(limit - rows.size()).build());
+        if (archived.isEmpty()) {
+            return rows;
+        }
+
+        List<ActivityLogView> combined = new ArrayList<>(rows);
+        combined.addAll(archived);
+        return combined;
+    }
+
+    private Long parseCursorId(CursorCodec.Cursor cursor) {
+        try {
+            return Long.parseLong(cursor.id());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
-    private ActivityLogResponseDTO mapToDTO(ActivityLogs log) {
+    private ActivityLogResponseDTO mapToDTO(ActivityLogView log) {
         return ActivityLogResponseDTO.builder()
-                .id(log.getId())
-                .actorId(log.getActor().getUserId())
-                .actorName(log.getActor().getFirstName() + " " + log.getActor().getLastName())
-                .action(log.getAction())
-                .entityType(log.getEntityType())
-                .entityId(log.getEntityId())
-                .data(log.getData())
-                .createdAt(log.getCreatedAt())
+                .id(log.id())
+                .actorId(log.actorId())
+                .actorName(log.actorFirstName() + " " + log.actorLastName())
+                .action(log.action())
+                .entityType(log.entityType())
+                .entityId(log.entityId())
+                .data(log.data())
+                .createdAt(log.createdAt())
                 .build();
     }
 }
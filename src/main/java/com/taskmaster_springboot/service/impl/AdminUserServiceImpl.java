@@ -9,6 +9,7 @@ import com.taskmaster_springboot.model.enums.AccountStatus;
 import com.taskmaster_springboot.model.enums.RoleName;
 import com.taskmaster_springboot.repository.RolesRepository;
 import com.taskmaster_springboot.repository.UsersRepository;
+import com.taskmaster_springboot.security.PrincipalCache;
 import com.taskmaster_springboot.service.AdminUserService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,21 +30,24 @@ public class AdminUserServiceImpl implements AdminUserService {
     private UsersRepository usersRepository;
     private RolesRepository rolesRepository;
     private UserMapper userMapper;
+    private PrincipalCache principalCache;
 
     @Override
+    @Transactional(readOnly = true)
     public List<AdminUserResponseDTO> getAllUsers() {
         log.info("Fetching all users");
 
-        return usersRepository.findAll().stream()
+        return usersRepository.findAllWithRoles().stream()
                 .map(userMapper::toAdminUserResponseDTO)
                 .collect(Collectors.toList());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public AdminUserResponseDTO getUserById(UUID userId) {
         log.info("Fetching user details for userId: {}", userId);
 
-        Users user = usersRepository.findById(userId)
+        Users user = usersRepository.findWithRolesByUserId(userId)
                 .orElseThrow(() -> {
                     log.error("User not found with ID: {}", userId);
                     return new ResourceNotFoundException("User not found with ID: " + userId);
@@ -71,6 +75,7 @@ public class AdminUserServiceImpl implements AdminUserService {
         // Replace all roles with the new role
         user.setRoles(Set.of(role));
         Users updatedUser = usersRepository.save(user);
+        principalCache.invalidate(updatedUser);
 
         log.info("User role updated successfully for userId: {}", userId);
         return userMapper.toAdminUserResponseDTO(updatedUser);
@@ -97,6 +102,7 @@ public class AdminUserServiceImpl implements AdminUserService {
 
         user.setStatus(status);
         Users updatedUser = usersRepository.save(user);
+        principalCache.invalidate(updatedUser);
 
         log.info("User status updated successfully for userId: {}", userId);
         return userMapper.toAdminUserResponseDTO(updatedUser);
@@ -122,6 +128,7 @@ public class AdminUserServiceImpl implements AdminUserService {
         }
 
         usersRepository.delete(user);
+        principalCache.invalidate(user);
         log.info("User deleted successfully with userId: {}", userId);
     }
 }
@@ -6,6 +6,7 @@ import com.taskmaster_springboot.exceptions.AuthenticationException;
 import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
 import com.taskmaster_springboot.model.Users;
 import com.taskmaster_springboot.repository.UsersRepository;
+import com.taskmaster_springboot.security.PrincipalCache;
 import com.taskmaster_springboot.service.AuthService;
 import com.taskmaster_springboot.service.EmailService;
 import com.taskmaster_springboot.service.JwtService;
@@ -14,6 +15,7 @@ import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.Instant;
@@ -29,11 +31,13 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final UserService userService;
+    private final PrincipalCache principalCache;
 
     /**
      * Authenticate user with email and password
      */
     @Override
+    @Transactional
     public AuthResponseDTO authenticateUser(String email, String password) {
         log.info("Authenticating user with email: {}", email);
 
@@ -76,6 +80,7 @@ public class AuthServiceImpl implements AuthService {
      * Generate password reset token and send email
      */
     @Override
+    @Transactional
     public void generatePasswordResetToken(String email) {
         log.info("Generating password reset token for email: {}", email);
 
@@ -104,6 +109,7 @@ public class AuthServiceImpl implements AuthService {
      * Reset password with token
      */
     @Override
+    @Transactional
     public void resetPassword(String token, String newPassword) {
         log.info("Resetting password with token");
 
@@ -126,6 +132,7 @@ public class AuthServiceImpl implements AuthService {
         user.setPasswordResetTokenExpireAt(null);
 
         usersRepository.save(user);
+        principalCache.invalidate(user);
 
         log.info("Password reset successful for user: {}", user.getEmail());
     }
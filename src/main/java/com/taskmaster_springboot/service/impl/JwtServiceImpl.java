@@ -2,9 +2,11 @@ package com.taskmaster_springboot.service.impl;
 
 import com.taskmaster_springboot.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -35,6 +37,18 @@ public class JwtServiceImpl implements JwtService {
 
     private static final String USER_ID_CLAIM = "userId";
 
+    // Derived once at startup; both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKey = getSigningKey();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
 
     // ===========================================================
     //                   PUBLIC API METHODS
@@ -94,14 +108,29 @@ public class JwtServiceImpl implements JwtService {
     public Boolean isTokenValid(String token, UserDetails userDetails) {
         if (token == null || token.isEmpty()) return false;
 
-        String username = extractUsername(token);
+        return isTokenValid(verifyToken(token), userDetails);
+    }
+
+    @Override
+    public Claims verifyToken(String token) {
+        if (token == null || token.isEmpty()) return null;
+
+        return extractAllClaims(token);
+    }
+
+    @Override
+    public Boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        if (claims == null) return false;
+
+        String username = claims.getSubject();
         if (username == null) return false;
 
         if (userDetails != null && !username.equals(userDetails.getUsername())) {
             return false;
         }
 
-        return !isTokenExpired(token);
+        Date exp = claims.getExpiration();
+        return exp != null && !exp.before(new Date());
     }
 
     @Override
@@ -135,17 +164,13 @@ public class JwtServiceImpl implements JwtService {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             log.error("❌ Unable to parse token: {}", e.getMessage());
             return null;
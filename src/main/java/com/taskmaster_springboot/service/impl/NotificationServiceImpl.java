@@ -1,16 +1,24 @@
 package com.taskmaster_springboot.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.taskmaster_springboot.dto.request.NotificationFilterRequestDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
 import com.taskmaster_springboot.dto.response.NotificationResponseDTO;
 import com.taskmaster_springboot.exceptions.AuthenticationException;
 import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
+import com.taskmaster_springboot.jobs.NotificationPushDispatcher;
 import com.taskmaster_springboot.model.Notifications;
 import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.NotificationChannel;
 import com.taskmaster_springboot.model.enums.NotificationType;
 import com.taskmaster_springboot.repository.NotificationRepository;
 import com.taskmaster_springboot.repository.UsersRepository;
 import com.taskmaster_springboot.service.NotificationService;
+import com.taskmaster_springboot.utils.CursorCodec;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,26 +32,45 @@ import java.util.stream.Collectors;
 @Transactional
 public class NotificationServiceImpl implements NotificationService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final NotificationRepository notificationRepository;
     private final UsersRepository usersRepository;
+    private final NotificationPushDispatcher notificationPushDispatcher;
+    private final ObjectMapper objectMapper;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     @Override
     public void sendNotification(UUID userId, String type, String message) {
+        sendNotification(userId, type, message, null);
+    }
+
+    @Override
+    public void sendNotification(UUID userId, String type, String message, UUID taskId) {
+        ObjectNode payload = objectMapper.createObjectNode().put("message", message);
+        if (taskId != null) {
+            payload.put("taskId", taskId.toString());
+        }
+
         Users user = usersRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
         Notifications notification = Notifications.builder()
                 .user(user)
                 .type(NotificationType.valueOf(type))
-                .payload(message)
+                .payload(payload.toString())
+                .channel(NotificationChannel.WEBSOCKET)
                 .isRead(false)
                 .build();
 
         notificationRepository.save(notification);
+        unreadNotificationCounter.adjust(userId, 1);
+        notificationPushDispatcher.publish(user.getEmail(), mapToDTO(notification));
         log.info("Notification sent to user: {}", userId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<NotificationResponseDTO> getUserNotifications(String email) {
         Users user = usersRepository.findByEmail(email);
         if (user == null) {
@@ -55,35 +82,97 @@ public class NotificationServiceImpl implements NotificationService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<NotificationResponseDTO> getUserNotificationsPage(String email, NotificationFilterRequestDTO filter) {
+        UUID userId = findUserId(email);
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+        boolean unreadOnly = Boolean.TRUE.equals(filter.getUnreadOnly());
+        CursorCodec.Cursor cursor = CursorCodec.decode(filter.getCursor());
+
+        // One extra row tells us whether another page exists without a COUNT query
+        Limit limit = Limit.of(size + 1);
+        List<Notifications> rows;
+        if (cursor == null) {
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadInbox(userId, limit)
+                    : notificationRepository.findInbox(userId, limit);
+        } else {
+            UUID cursorId = parseCursorId(cursor);
+            rows = unreadOnly
+                    ? notificationRepository.findUnreadInboxBefore(userId, cursor.createdAt(), cursorId, limit)
+                    : notificationRepository.findInboxBefore(userId, cursor.createdAt(), cursorId, limit);
+        }
+        boolean hasMore = rows.size() > size;
+        List<Notifications> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            Notifications last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return CursorPageResponseDTO.<NotificationResponseDTO>builder()
+                .items(page.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getUnreadCount(String email) {
+        return unreadNotificationCounter.get(findUserId(email));
+    }
+
     @Override
     public void markNotificationAsRead(UUID notificationId) {
         Notifications notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
 
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.setIsRead(true);
+            notificationRepository.save(notification);
+            unreadNotificationCounter.adjust(notification.getUser().getUserId(), -1);
+        }
         log.info("Notification marked as read: {}", notificationId);
     }
 
     @Override
     public void markAllNotificationsAsRead(String email) {
-        Users user = usersRepository.findByEmail(email);
-        if (user == null) {
-            throw new AuthenticationException("User not found");
-        }
+        UUID userId = findUserId(email);
 
-        List<Notifications> notifications = notificationRepository.findByUserId(user.getUserId());
-        notifications.forEach(n -> n.setIsRead(true));
-        notificationRepository.saveAll(notifications);
-        log.info("All notifications marked as read for user: {}", user.getUserId());
+        int updated = notificationRepository.markAllRead(userId);
+        unreadNotificationCounter.invalidate(userId);
+        log.info("{} notifications marked as read for user: {}", updated, userId);
     }
 
     @Override
     public void deleteNotification(UUID notificationId) {
-        notificationRepository.deleteById(notificationId);
+        Notifications notification = notificationRepository.findById(notificationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+
+        notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadNotificationCounter.adjust(notification.getUser().getUserId(), -1);
+        }
         log.info("Notification deleted: {}", notificationId);
     }
 
+    private UUID findUserId(String email) {
+        return usersRepository.findIdByEmail(email)
+                .orElseThrow(() -> new AuthenticationException("User not found"));
+    }
+
+    private UUID parseCursorId(CursorCodec.Cursor cursor) {
+        try {
+            return UUID.fromString(cursor.id());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     private NotificationResponseDTO mapToDTO(Notifications notification) {
         return NotificationResponseDTO.builder()
                 .id(notification.getId())
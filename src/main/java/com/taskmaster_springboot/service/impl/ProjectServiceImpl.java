@@ -64,6 +64,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ProjectResponseDTO getProjectById(UUID projectId) {
         Projects project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
@@ -71,6 +72,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getTeamProjects(UUID teamId) {
         Teams team = teamsRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
@@ -82,6 +84,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ProjectResponseDTO> getUserProjects(String email) {
         Users user = usersRepository.findByEmail(email);
         if (user == null) {
@@ -150,8 +153,8 @@ public class ProjectServiceImpl implements ProjectService {
                 .teamId(project.getTeam() != null ? project.getTeam().getId() : null)
                 .startDate(project.getStartDate())
                 .dueDate(project.getDueDate())
-                .taskCount(project.getTasks() != null ? project.getTasks().size() : 0)
-                .memberCount(project.getProjectMembers() != null ? project.getProjectMembers().size() : 0)
+                .taskCount(project.getTaskCount() != null ? project.getTaskCount() : 0)
+                .memberCount(project.getMemberCount() != null ? project.getMemberCount() : 0)
                 .createdAt(project.getCreatedAt())
                 .updatedAt(project.getUpdatedAt())
                 .archived(project.getArchived())
@@ -0,0 +1,233 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmaster_springboot.dto.response.TaskChangeEventDTO;
+import com.taskmaster_springboot.dto.response.TaskChangeFeedDTO;
+import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
+import com.taskmaster_springboot.model.TaskChangeEvents;
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.model.enums.TaskChangeType;
+import com.taskmaster_springboot.repository.ProjectRepository;
+import com.taskmaster_springboot.repository.TaskChangeEventsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Records task board deltas and pushes them to {@code /topic/projects/{projectId}/tasks}.
+ * <p>
+ * Each change bumps the project's board_version and is stored with that version in the caller's
+ * transaction; the frame is sent after commit. Frames of concurrent transactions may arrive out
+ * of order, so clients apply deltas by version and fetch gaps, or what they missed while
+ * disconnected, with {@link #findSince}.
+ */
+@Component
+@Slf4j
+public class TaskChangeFeed {
+
+    private static final String TOPIC = "/topic/projects/%s/tasks";
+
+    /** One change for {@link #recordAll}; {@code changes} as for {@link #record}. */
+    public record Change(Tasks task, TaskChangeType type, Object changes) {
+    }
+
+    private final ProjectRepository projectRepository;
+    private final TaskChangeEventsRepository taskChangeEventsRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.tasks.change-feed.retention:7d}")
+    private Duration retention;
+
+    public TaskChangeFeed(ProjectRepository projectRepository,
+                          TaskChangeEventsRepository taskChangeEventsRepository,
+                          SimpMessagingTemplate messagingTemplate,
+                          ObjectMapper objectMapper) {
+        this.projectRepository = projectRepository;
+        this.taskChangeEventsRepository = taskChangeEventsRepository;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a change of the task. {@code changes} holds only the fields that changed, as a map,
+     * or the whole task DTO for CREATED; an empty map records nothing.
+     */
+    public void record(Tasks task, TaskChangeType type, Object changes, UUID actorId) {
+        JsonNode delta = objectMapper.valueToTree(changes);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        UUID projectId = task.getProject().getId();
+        Long version = projectRepository.nextBoardVersion(projectId);
+
+        TaskChangeEvents event = taskChangeEventsRepository.save(TaskChangeEvents.builder()
+                .projectId(projectId)
+                .version(version)
+                .taskId(task.getId())
+                .type(type)
+                .changes(delta.toString())
+                .actorId(actorId)
+                .build());
+
+        sendAfterCommit(List.of(mapToDTO(event, delta)));
+    }
+
+    /**
+     * Records several changes, in order, reserving each project's versions with one update
+     * and inserting the events together.
+     */
+    public void recordAll(List<Change> changes, UUID actorId) {
+        List<JsonNode> deltas = new ArrayList<>(changes.size());
+        // Versions are reserved in project id order, so concurrent calls lock project rows alike
+        Map<UUID, Integer> counts = new TreeMap<>();
+        for (Change change : changes) {
+            JsonNode delta = objectMapper.valueToTree(change.changes());
+            deltas.add(delta);
+            if (!delta.isEmpty()) {
+                counts.merge(change.task().getProject().getId(), 1, Integer::sum);
+            }
+        }
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        // Next version to hand out per project
+        Map<UUID, Long> versions = new HashMap<>();
+        counts.forEach((projectId, count) ->
+                versions.put(projectId, projectRepository.reserveBoardVersions(projectId, count) - count + 1));
+
+        List<TaskChangeEvents> events = new ArrayList<>();
+        List<JsonNode> recorded = new ArrayList<>();
+        for (int i = 0; i < changes.size(); i++) {
+            JsonNode delta = deltas.get(i);
+            if (delta.isEmpty()) {
+                continue;
+            }
+            Change change = changes.get(i);
+            UUID projectId = change.task().getProject().getId();
+            events.add(TaskChangeEvents.builder()
+                    .projectId(projectId)
+                    .version(versions.merge(projectId, 1L, Long::sum) - 1)
+                    .taskId(change.task().getId())
+                    .type(change.type())
+                    .changes(delta.toString())
+                    .actorId(actorId)
+                    .build());
+            recorded.add(delta);
+        }
+
+        List<TaskChangeEvents> saved = taskChangeEventsRepository.saveAll(events);
+        List<TaskChangeEventDTO> messages = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            messages.add(mapToDTO(saved.get(i), recorded.get(i)));
+        }
+        sendAfterCommit(messages);
+    }
+
+    public long currentVersion(UUID projectId) {
+        return projectRepository.findBoardVersion(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+    }
+
+    /**
+     * Deltas after {@code sinceVersion}, oldest first. Flags a resync when events the client
+     * needs have already been purged.
+     */
+    public TaskChangeFeedDTO findSince(UUID projectId, long sinceVersion, int limit) {
+        long currentVersion = currentVersion(projectId);
+
+        Long oldestVersion = taskChangeEventsRepository.findOldestVersion(projectId);
+        boolean resyncRequired = sinceVersion < currentVersion
+                && (oldestVersion == null || oldestVersion > sinceVersion + 1);
+        if (resyncRequired) {
+            return TaskChangeFeedDTO.builder()
+                    .projectId(projectId)
+                    .currentVersion(currentVersion)
+                    .events(List.of())
+                    .hasMore(false)
+                    .resyncRequired(true)
+                    .build();
+        }
+
+        List<TaskChangeEvents> rows = taskChangeEventsRepository.findSince(projectId, sinceVersion, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<TaskChangeEvents> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return TaskChangeFeedDTO.builder()
+                .projectId(projectId)
+                .currentVersion(currentVersion)
+                .events(page.stream().map(event -> mapToDTO(event, readChanges(event))).toList())
+                .hasMore(hasMore)
+                .resyncRequired(false)
+                .build();
+    }
+
+    @Scheduled(cron = "${app.tasks.change-feed.purge-cron:0 45 2 * * *}")
+    public void purgeExpired() {
+        int deleted = taskChangeEventsRepository.deleteOlderThan(Instant.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} task change events older than {}", deleted, retention);
+        }
+    }
+
+    private void sendAfterCommit(List<TaskChangeEventDTO> messages) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messages.forEach(TaskChangeFeed.this::send);
+                }
+            });
+        } else {
+            messages.forEach(this::send);
+        }
+    }
+
+    private void send(TaskChangeEventDTO message) {
+        try {
+            messagingTemplate.convertAndSend(String.format(TOPIC, message.getProjectId()), message);
+        } catch (MessagingException e) {
+            // Clients catch up from the stored events
+            log.warn("Failed to publish task change {} of project {}: {}",
+                    message.getVersion(), message.getProjectId(), e.getMessage());
+        }
+    }
+
+    private JsonNode readChanges(TaskChangeEvents event) {
+        try {
+            return objectMapper.readTree(event.getChanges());
+        } catch (Exception e) {
+            throw new IllegalStateException("Corrupt task change event " + event.getId(), e);
+        }
+    }
+
+    private TaskChangeEventDTO mapToDTO(TaskChangeEvents event, JsonNode changes) {
+        return TaskChangeEventDTO.builder()
+                .projectId(event.getProjectId())
+                .version(event.getVersion())
+                .taskId(event.getTaskId())
+                .type(event.getType())
+                .changes(changes)
+                .actorId(event.getActorId())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+}
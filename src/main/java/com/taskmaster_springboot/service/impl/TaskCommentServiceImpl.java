@@ -55,19 +55,22 @@ public class TaskCommentServiceImpl implements TaskCommentService {
         }
 
         TaskComments savedComment = taskCommentsRepository.save(comment);
+        taskRepository.adjustCommentCount(task.getId(), 1);
         log.info("Comment added successfully: {}", savedComment.getId());
 
         return mapToDTO(savedComment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskCommentResponseDTO getCommentById(UUID commentId) {
-        TaskComments comment = taskCommentsRepository.findById(commentId)
+        TaskComments comment = taskCommentsRepository.findWithAuthorById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
         return mapToDTO(comment);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskCommentResponseDTO> getTaskComments(UUID taskId) {
         return taskCommentsRepository.findByTaskId(taskId).stream()
                 .map(this::mapToDTO)
@@ -101,7 +104,10 @@ public class TaskCommentServiceImpl implements TaskCommentService {
             throw new AuthenticationException("Unauthorized to delete this comment");
         }
 
+        UUID taskId = comment.getTask().getId();
         taskCommentsRepository.delete(comment);
+        // Replies are removed with their parent, so recount instead of decrementing by one
+        taskRepository.refreshCommentCount(taskId);
         log.info("Comment deleted: {}", commentId);
     }
 
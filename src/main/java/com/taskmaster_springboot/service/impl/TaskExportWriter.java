@@ -0,0 +1,181 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmaster_springboot.dto.response.TaskResponseDTO;
+import com.taskmaster_springboot.model.enums.TaskExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Writes exported tasks to a stream: CSV (RFC 4180, header row first, text that a spreadsheet
+ * would read as a formula prefixed with {@code '}) or NDJSON (one task object per line, as the
+ * task endpoints return it). Output is buffered and reaches the stream
+ * when the buffer fills or on {@link #flush()}; the stream is never closed.
+ */
+abstract class TaskExportWriter {
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private long rows;
+
+    static TaskExportWriter create(TaskExportFormat format, OutputStream out, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new Csv(out);
+            case NDJSON -> new NdJson(out, objectMapper);
+        };
+    }
+
+    /** Writes the task, and pushes the output to the client every {@value #FLUSH_INTERVAL} tasks. */
+    final void write(TaskResponseDTO task) {
+        writeRow(task);
+        if (++rows % FLUSH_INTERVAL == 0) {
+            flush();
+        }
+    }
+
+    abstract void writeRow(TaskResponseDTO task);
+
+    abstract void flush();
+
+    private static final class Csv extends TaskExportWriter {
+
+        private static final String HEADER = "id,key,title,description,status,priority,assigneeId,assigneeName," +
+                "reporterId,startDate,dueDate,estimateMinutes,timeSpentMinutes,tags,commentCount,createdAt,updatedAt,archived";
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private final Writer writer;
+        private boolean headerWritten;
+
+        private Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        }
+
+        @Override
+        void writeRow(TaskResponseDTO task) {
+            try {
+                if (!headerWritten) {
+                    writer.write(HEADER);
+                    writer.write("\r\n");
+                    headerWritten = true;
+                }
+                writer.write(field(task.getId()));
+                writer.write(',');
+                writer.write(field(task.getKey()));
+                writer.write(',');
+                writer.write(field(task.getTitle()));
+                writer.write(',');
+                writer.write(field(task.getDescription()));
+                writer.write(',');
+                writer.write(field(task.getStatus()));
+                writer.write(',');
+                writer.write(field(task.getPriority()));
+                writer.write(',');
+                writer.write(field(task.getAssigneeId()));
+                writer.write(',');
+                writer.write(field(task.getAssigneeName()));
+                writer.write(',');
+                writer.write(field(task.getReporterId()));
+                writer.write(',');
+                writer.write(field(task.getStartDate()));
+                writer.write(',');
+                writer.write(field(task.getDueDate()));
+                writer.write(',');
+                writer.write(field(task.getEstimateMinutes()));
+                writer.write(',');
+                writer.write(field(task.getTimeSpentMinutes()));
+                writer.write(',');
+                writer.write(field(task.getTags() != null ? String.join(";", task.getTags()) : null));
+                writer.write(',');
+                writer.write(field(task.getCommentCount()));
+                writer.write(',');
+                writer.write(field(task.getCreatedAt()));
+                writer.write(',');
+                writer.write(field(task.getUpdatedAt()));
+                writer.write(',');
+                writer.write(field(task.getArchived()));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void flush() {
+            try {
+                if (!headerWritten) {
+                    writer.write(HEADER);
+                    writer.write("\r\n");
+                    headerWritten = true;
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // Quoted only when it holds a separator, quote or line break
+        private static String field(Object value) {
+            if (value == null) {
+                return "";
+            }
+            String text = Objects.toString(value);
+            // User text starting like a formula would run as one when the file is opened in a spreadsheet
+            if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                return text;
+            }
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class NdJson extends TaskExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private NdJson(OutputStream out, ObjectMapper objectMapper) {
+            try {
+                // Lines end with '\n' instead of the default space between root values
+                this.generator = objectMapper.getFactory().createGenerator(out)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .setRootValueSeparator(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Flushing after every task would send each line as its own chunk
+            this.writer = objectMapper.writerFor(TaskResponseDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        void writeRow(TaskResponseDTO task) {
+            try {
+                writer.writeValue(generator, task);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        void flush() {
+            try {
+                generator.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
+import com.taskmaster_springboot.model.Projects;
+import com.taskmaster_springboot.repository.ProjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out per-project task numbers from the {@code projects.task_seq} counter.
+ * <p>
+ * With a block size of 1 every number is reserved by a single {@code UPDATE ... RETURNING}
+ * inside the caller's transaction, so numbers stay gapless and roll back with the task.
+ * Larger blocks are reserved in their own short transaction and served from memory,
+ * trading gaps (unused numbers are lost on restart or rollback) for far fewer row locks
+ * on the project under parallel writers.
+ */
+@Component
+@Slf4j
+public class TaskKeyAllocator {
+
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate reservationTransaction;
+    private final int blockSize;
+    private final Map<UUID, NumberBlock> blocks = new ConcurrentHashMap<>();
+
+    public TaskKeyAllocator(ProjectRepository projectRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.tasks.key-block-size:1}") int blockSize) {
+        this.projectRepository = projectRepository;
+        this.reservationTransaction = new TransactionTemplate(transactionManager);
+        this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public String nextTaskKey(Projects project) {
+        return project.getKey() + "-" + nextTaskNumber(project.getId());
+    }
+
+    /** {@code count} consecutive keys; with a block size of 1 they cost a single round trip. */
+    public List<String> nextTaskKeys(Projects project, int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (blockSize == 1) {
+            long last = reserve(project.getId(), count);
+            for (long number = last - count + 1; number <= last; number++) {
+                keys.add(project.getKey() + "-" + number);
+            }
+            return keys;
+        }
+        for (int i = 0; i < count; i++) {
+            keys.add(nextTaskKey(project));
+        }
+        return keys;
+    }
+
+    public long nextTaskNumber(UUID projectId) {
+        if (blockSize == 1) {
+            return reserve(projectId, 1);
+        }
+
+        NumberBlock block = blocks.computeIfAbsent(projectId, id -> new NumberBlock());
+        // A lock rather than synchronized: the reservation below does I/O, which would pin a
+        // virtual thread to its carrier inside a monitor
+        block.lock.lock();
+        try {
+            if (block.next > block.last) {
+                Long last = reservationTransaction.execute(status -> reserve(projectId, blockSize));
+                block.next = last - blockSize + 1;
+                block.last = last;
+                log.debug("Reserved task numbers {}..{} for project {}", block.next, block.last, projectId);
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    private long reserve(UUID projectId, int count) {
+        Long last = projectRepository.reserveTaskNumbers(projectId, count);
+        if (last == null) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        return last;
+    }
+
+    private static final class NumberBlock {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long next = 1;
+        private long last = 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.taskmaster_springboot.dto.request.TaskSearchRequestDTO;
+import com.taskmaster_springboot.dto.response.TaskSearchResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskSearchResultDTO;
+import com.taskmaster_springboot.exceptions.AuthenticationException;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.RoleName;
+import com.taskmaster_springboot.repository.TaskRepository;
+import com.taskmaster_springboot.repository.TaskSearchCriteria;
+import com.taskmaster_springboot.repository.TaskSearchHit;
+import com.taskmaster_springboot.repository.UsersRepository;
+import com.taskmaster_springboot.service.TaskSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class TaskSearchServiceImpl implements TaskSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final TaskRepository taskRepository;
+    private final UsersRepository usersRepository;
+
+    @Value("${app.tasks.search.max-candidates:1000}")
+    private int maxCandidates;
+
+    public TaskSearchServiceImpl(TaskRepository taskRepository, UsersRepository usersRepository) {
+        this.taskRepository = taskRepository;
+        this.usersRepository = usersRepository;
+    }
+
+    /**
+     * Ranked search over the tasks of the projects the user can see; administrators search
+     * every project. Pages are offset-based since results are ordered by rank.
+     */
+    @Override
+    public TaskSearchResponseDTO search(TaskSearchRequestDTO request, String email) {
+        Users user = usersRepository.findByEmail(email);
+        if (user == null) {
+            throw new AuthenticationException("User not found");
+        }
+        boolean admin = user.getRoles().stream().anyMatch(role -> role.getName() == RoleName.ADMIN);
+
+        int page = request.getPage() != null ? request.getPage() : 0;
+        int size = request.getSize() != null ? request.getSize() : DEFAULT_PAGE_SIZE;
+        String query = request.getQ().trim();
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<TaskSearchHit> hits = taskRepository.search(TaskSearchCriteria.builder()
+                .query(query)
+                .viewerId(admin ? null : user.getUserId())
+                .projectId(request.getProjectId())
+                .maxCandidates(maxCandidates)
+                .offset(page * size)
+                .limit(size + 1)
+                .build());
+        boolean hasMore = hits.size() > size;
+        List<TaskSearchHit> pageHits = hasMore ? hits.subList(0, size) : hits;
+
+        return TaskSearchResponseDTO.builder()
+                .query(query)
+                .items(pageHits.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .page(page)
+                .size(pageHits.size())
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private TaskSearchResultDTO mapToDTO(TaskSearchHit hit) {
+        return TaskSearchResultDTO.builder()
+                .id(hit.id())
+                .projectId(hit.projectId())
+                .key(hit.key())
+                .title(hit.title())
+                .status(hit.status())
+                .priority(hit.priority())
+                .assigneeId(hit.assigneeId())
+                .updatedAt(hit.updatedAt())
+                .rank(hit.rank())
+                .titleHighlight(hit.titleHighlight())
+                .snippet(hit.snippet())
+                .build();
+    }
+}
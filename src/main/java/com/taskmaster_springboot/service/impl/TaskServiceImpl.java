@@ -1,24 +1,58 @@
 package com.taskmaster_springboot.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmaster_springboot.config.ReplicaRoutingDataSource;
+import com.taskmaster_springboot.dto.request.TaskBulkOperationDTO;
+import com.taskmaster_springboot.dto.request.TaskBulkRequestDTO;
 import com.taskmaster_springboot.dto.request.TaskCreateRequestDTO;
+import com.taskmaster_springboot.dto.request.TaskFilterRequestDTO;
+import com.taskmaster_springboot.dto.response.CursorPageResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskBoardDTO;
+import com.taskmaster_springboot.dto.response.TaskBulkResponseDTO;
+import com.taskmaster_springboot.dto.response.TaskBulkResultDTO;
+import com.taskmaster_springboot.dto.response.TaskChangeFeedDTO;
 import com.taskmaster_springboot.dto.response.TaskResponseDTO;
 import com.taskmaster_springboot.exceptions.AuthenticationException;
 import com.taskmaster_springboot.exceptions.ResourceNotFoundException;
 import com.taskmaster_springboot.model.Projects;
 import com.taskmaster_springboot.model.Tasks;
 import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.TaskBulkOperationType;
+import com.taskmaster_springboot.model.enums.TaskChangeType;
+import com.taskmaster_springboot.model.enums.TaskExportFormat;
+import com.taskmaster_springboot.model.enums.TaskPriority;
 import com.taskmaster_springboot.model.enums.TaskStatus;
 import com.taskmaster_springboot.repository.ProjectRepository;
+import com.taskmaster_springboot.repository.TaskPageCriteria;
 import com.taskmaster_springboot.repository.TaskRepository;
+import com.taskmaster_springboot.repository.TaskView;
 import com.taskmaster_springboot.repository.UsersRepository;
 import com.taskmaster_springboot.service.TaskService;
+import com.taskmaster_springboot.utils.CursorCodec;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,9 +61,20 @@ import java.util.stream.Collectors;
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_CHANGE_LIMIT = 500;
+    private static final int MAX_CHANGE_LIMIT = 1000;
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UsersRepository usersRepository;
+    private final TaskKeyAllocator taskKeyAllocator;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskTypeaheadIndexer taskTypeaheadIndexer;
+    private final ObjectMapper objectMapper;
+    private final EntityManagerFactory entityManagerFactory;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public TaskResponseDTO createTask(TaskCreateRequestDTO request, String email) {
@@ -49,65 +94,93 @@ public class TaskServiceImpl implements TaskService {
                     .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
         }
 
-        Tasks task = Tasks.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .project(project)
-                .assignee(assignee)
-                .reporter(user)
-                .createdBy(user)
-                .priority(request.getPriority() != null ? request.getPriority() : com.taskmaster_springboot.model.enums.TaskPriority.MEDIUM)
-                .startDate(request.getStartDate())
-                .dueDate(request.getDueDate())
-                .estimateMinutes(request.getEstimateMinutes())
-                .tags(request.getTags())
-                .archived(false)
-                .build();
-
-        // Generate task key
-        long taskCount = taskRepository.countByProject(project);
-        task.setKey(project.getKey() + "-" + (taskCount + 1));
+        Tasks task = newTask(request, project, assignee, user);
+        task.setKey(taskKeyAllocator.nextTaskKey(project));
 
         Tasks savedTask = taskRepository.save(task);
+        adjustTaskCount(project.getId(), 1);
         log.info("Task created successfully: {}", savedTask.getId());
 
-        return mapToDTO(savedTask);
+        TaskResponseDTO created = mapToDTO(savedTask);
+        taskChangeFeed.record(savedTask, TaskChangeType.CREATED, created, user.getUserId());
+        taskTypeaheadIndexer.indexTask(savedTask);
+        return created;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(UUID taskId) {
-        Tasks task = taskRepository.findById(taskId)
+        TaskView task = taskRepository.findViewById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
         return mapToDTO(task);
     }
 
     @Override
-    public List<TaskResponseDTO> getProjectTasks(UUID projectId) {
-        Projects project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+    @Transactional(readOnly = true)
+    public TaskBoardDTO getProjectTaskBoard(UUID projectId) {
+        // Read before the tasks and in the same transaction, so on the same database (replica or
+        // not): replaying deltas after this version never misses a change
+        long boardVersion = taskChangeFeed.currentVersion(projectId);
 
-        return taskRepository.findByProject(project).stream()
-                .filter(task -> !task.getArchived())
+        List<TaskResponseDTO> tasks = taskRepository.findPage(TaskPageCriteria.builder().projectId(projectId).build()).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
+        return TaskBoardDTO.builder()
+                .boardVersion(boardVersion)
+                .tasks(tasks)
+                .build();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponseDTO> getUserAssignedTasks(String email) {
         Users user = usersRepository.findByEmail(email);
         if (user == null) {
             throw new AuthenticationException("User not found");
         }
 
-        return taskRepository.findByAssignee(user).stream()
-                .filter(task -> !task.getArchived())
+        return taskRepository.findPage(TaskPageCriteria.builder().assigneeId(user.getUserId()).build()).stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportProjectTasks(UUID projectId, TaskExportFormat format, boolean archived, OutputStream out) {
+        if (!ReplicaRoutingDataSource.readFromPrimary(() -> projectRepository.existsById(projectId))) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+
+        // Keyset pages, each read in a transaction of its own and written out after it ends, so a
+        // slow client holds no connection and memory stays flat however large the project
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setReadOnly(true);
+        TaskExportWriter writer = TaskExportWriter.create(format, out, objectMapper);
+        TaskPageCriteria.TaskPageCriteriaBuilder criteria = TaskPageCriteria.builder()
+                .projectId(projectId)
+                .archived(archived)
+                .limit(EXPORT_CHUNK_SIZE);
+        long rows = 0;
+        List<TaskView> chunk;
+        do {
+            TaskPageCriteria page = criteria.build();
+            // On the primary, like the board version in the response header, which a replica
+            // could trail
+            chunk = ReplicaRoutingDataSource.readFromPrimary(() -> chunkTransaction.execute(tx -> taskRepository.findPage(page)));
+            chunk.forEach(view -> writer.write(mapToDTO(view)));
+            rows += chunk.size();
+            if (!chunk.isEmpty()) {
+                TaskView last = chunk.get(chunk.size() - 1);
+                criteria.afterCreatedAt(last.createdAt()).afterId(last.id());
+            }
+        } while (chunk.size() == EXPORT_CHUNK_SIZE);
+        writer.flush();
+        log.info("Exported {} tasks of project {} as {}", rows, projectId, format);
+    }
+
     @Override
     public TaskResponseDTO updateTask(UUID taskId, TaskCreateRequestDTO request, String email) {
-        Tasks task = taskRepository.findById(taskId)
+        Tasks task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         Users user = usersRepository.findByEmail(email);
@@ -115,15 +188,13 @@ public class TaskServiceImpl implements TaskService {
             throw new AuthenticationException("User not found");
         }
 
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority() != null ? request.getPriority() : task.getPriority());
-        task.setStartDate(request.getStartDate());
-        task.setDueDate(request.getDueDate());
-        task.setEstimateMinutes(request.getEstimateMinutes());
-        task.setTags(request.getTags());
+        Map<String, Object> changes = applyDetails(task, request);
 
         Tasks updatedTask = taskRepository.save(task);
+        taskChangeFeed.record(updatedTask, TaskChangeType.UPDATED, changes, user.getUserId());
+        if (changes.containsKey("title") || changes.containsKey("tags")) {
+            taskTypeaheadIndexer.indexTask(updatedTask);
+        }
         return mapToDTO(updatedTask);
     }
 
@@ -132,8 +203,15 @@ public class TaskServiceImpl implements TaskService {
         Tasks task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
+        if (Boolean.TRUE.equals(task.getArchived())) {
+            return;
+        }
+
         task.setArchived(true);
         taskRepository.save(task);
+        adjustTaskCount(task.getProject().getId(), -1);
+        taskChangeFeed.record(task, TaskChangeType.ARCHIVED, Map.of("archived", true), actorId(email));
+        taskTypeaheadIndexer.removeTask(taskId);
         log.info("Task archived: {}", taskId);
     }
 
@@ -145,8 +223,9 @@ public class TaskServiceImpl implements TaskService {
         Users assignee = usersRepository.findById(assigneeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
 
-        task.setAssignee(assignee);
+        Map<String, Object> changes = applyAssignee(task, assignee);
         taskRepository.save(task);
+        taskChangeFeed.record(task, TaskChangeType.UPDATED, changes, actorId(email));
         log.info("Task assigned to: {}", assigneeId);
     }
 
@@ -155,19 +234,358 @@ public class TaskServiceImpl implements TaskService {
         Tasks task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
+        Map<String, Object> changes = applyStatus(task, status);
+        taskRepository.save(task);
+        taskChangeFeed.record(task, TaskChangeType.UPDATED, changes, actorId(email));
+        log.info("Task status updated to: {}", status);
+    }
+
+    @Override
+    public TaskBulkResponseDTO applyBulkOperations(TaskBulkRequestDTO request, String email) {
+        Users user = usersRepository.findByEmail(email);
+        if (user == null) {
+            throw new AuthenticationException("User not found");
+        }
+
+        List<TaskBulkOperationDTO> operations = request.getOperations();
+        log.info("Applying {} bulk task operations", operations.size());
+
+        // Everything the operations refer to, with one query per entity
+        Set<UUID> taskIds = new HashSet<>();
+        Set<UUID> projectIds = new HashSet<>();
+        Set<UUID> userIds = new HashSet<>();
+        for (TaskBulkOperationDTO operation : operations) {
+            if (operation.getType() == TaskBulkOperationType.CREATE) {
+                if (operation.getTask() != null) {
+                    addIfPresent(projectIds, operation.getTask().getProjectId());
+                    addIfPresent(userIds, operation.getTask().getAssigneeId());
+                }
+            } else {
+                addIfPresent(taskIds, operation.getTaskId());
+                if (operation.getType() == TaskBulkOperationType.ASSIGN) {
+                    addIfPresent(userIds, operation.getAssigneeId());
+                }
+            }
+        }
+        Map<UUID, Tasks> tasks = taskIds.isEmpty() ? Map.of() : taskRepository.findAllWithAssigneeByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Tasks::getId, Function.identity()));
+        Map<UUID, Projects> projects = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Projects::getId, Function.identity()));
+        Map<UUID, Users> users = usersRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(Users::getUserId, Function.identity()));
+
+        // Applied operations by index: the task and its changes (null for a new task)
+        Map<Integer, TaskChangeFeed.Change> applied = new LinkedHashMap<>();
+        Map<Integer, String> errors = new HashMap<>();
+        // By project id, the order in which project rows are updated below
+        Map<UUID, List<Tasks>> created = new TreeMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBulkOperationDTO operation = operations.get(i);
+            try {
+                if (operation.getType() == TaskBulkOperationType.CREATE) {
+                    TaskCreateRequestDTO details = requireDetails(operation);
+                    if (details.getProjectId() == null) {
+                        throw new IllegalArgumentException("Project ID is required");
+                    }
+                    Projects project = require(projects, details.getProjectId(), "Project not found");
+                    Users assignee = details.getAssigneeId() != null
+                            ? require(users, details.getAssigneeId(), "Assignee not found") : null;
+                    Tasks task = newTask(details, project, assignee, user);
+                    created.computeIfAbsent(project.getId(), id -> new ArrayList<>()).add(task);
+                    applied.put(i, new TaskChangeFeed.Change(task, TaskChangeType.CREATED, null));
+                    continue;
+                }
+
+                if (operation.getTaskId() == null) {
+                    throw new IllegalArgumentException("Task ID is required");
+                }
+                Tasks task = require(tasks, operation.getTaskId(), "Task not found");
+                Map<String, Object> changes = switch (operation.getType()) {
+                    case UPDATE -> applyDetails(task, requireDetails(operation));
+                    case ASSIGN -> {
+                        if (operation.getAssigneeId() == null) {
+                            throw new IllegalArgumentException("Assignee ID is required");
+                        }
+                        yield applyAssignee(task, require(users, operation.getAssigneeId(), "Assignee not found"));
+                    }
+                    case STATUS -> {
+                        if (operation.getStatus() == null) {
+                            throw new IllegalArgumentException("Status is required");
+                        }
+                        yield applyStatus(task, operation.getStatus());
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported operation: " + operation.getType());
+                };
+                applied.put(i, new TaskChangeFeed.Change(task, TaskChangeType.UPDATED, changes));
+            } catch (ResourceNotFoundException | IllegalArgumentException e) {
+                errors.put(i, e.getMessage());
+            }
+        }
+
+        // Key reservation and the change feed each update project rows; with several projects, lock
+        // them all in id order first, so that bulk requests over the same projects cannot deadlock
+        Set<UUID> touchedProjects = new HashSet<>(created.keySet());
+        applied.values().forEach(change -> touchedProjects.add(change.task().getProject().getId()));
+        if (touchedProjects.size() > 1) {
+            projectRepository.lockInIdOrder(touchedProjects);
+        }
+
+        // New tasks get their keys per project in one reservation and are inserted in JDBC batches;
+        // loaded tasks are updated in batches when the transaction flushes
+        created.forEach((projectId, newTasks) -> {
+            List<String> keys = taskKeyAllocator.nextTaskKeys(newTasks.get(0).getProject(), newTasks.size());
+            for (int i = 0; i < newTasks.size(); i++) {
+                newTasks.get(i).setKey(keys.get(i));
+            }
+            taskRepository.saveAll(newTasks);
+            adjustTaskCount(projectId, newTasks.size());
+        });
+
+        List<TaskBulkResultDTO> results = new ArrayList<>(operations.size());
+        List<TaskChangeFeed.Change> feed = new ArrayList<>(applied.size());
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBulkOperationType type = operations.get(i).getType();
+            TaskChangeFeed.Change change = applied.get(i);
+            if (change == null) {
+                results.add(TaskBulkResultDTO.builder()
+                        .index(i)
+                        .type(type)
+                        .success(false)
+                        .taskId(operations.get(i).getTaskId())
+                        .error(errors.get(i))
+                        .build());
+                continue;
+            }
+
+            Tasks task = change.task();
+            TaskResponseDTO dto = mapToDTO(task);
+            if (change.type() == TaskChangeType.CREATED) {
+                feed.add(new TaskChangeFeed.Change(task, TaskChangeType.CREATED, dto));
+                taskTypeaheadIndexer.indexTask(task);
+            } else {
+                Map<?, ?> changes = (Map<?, ?>) change.changes();
+                feed.add(change);
+                if (changes.containsKey("title") || changes.containsKey("tags")) {
+                    taskTypeaheadIndexer.indexTask(task);
+                }
+            }
+            results.add(TaskBulkResultDTO.builder()
+                    .index(i)
+                    .type(type)
+                    .success(true)
+                    .taskId(task.getId())
+                    .task(dto)
+                    .build());
+        }
+        taskChangeFeed.recordAll(feed, user.getUserId());
+
+        log.info("Bulk task operations applied: {} succeeded, {} failed", applied.size(), errors.size());
+        return TaskBulkResponseDTO.builder()
+                .succeeded(applied.size())
+                .failed(errors.size())
+                .results(results)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TaskResponseDTO> filterTasks(UUID projectId, TaskFilterRequestDTO filter) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found");
+        }
+        return findTaskPage(projectId, filter.getAssigneeId(), filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<TaskResponseDTO> getUserAssignedTasksPage(String email, TaskFilterRequestDTO filter) {
+        Users user = usersRepository.findByEmail(email);
+        if (user == null) {
+            throw new AuthenticationException("User not found");
+        }
+        return findTaskPage(filter.getProjectId(), user.getUserId(), filter);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getBoardVersion(UUID projectId) {
+        // On the primary: callers read what the version vouches for in later transactions, which
+        // must not land on a replica that is further behind
+        return ReplicaRoutingDataSource.readFromPrimary(() -> taskChangeFeed.currentVersion(projectId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangeFeedDTO getTaskChanges(UUID projectId, long sinceVersion, Integer limit) {
+        int size = limit != null ? limit : DEFAULT_CHANGE_LIMIT;
+        if (size < 1 || size > MAX_CHANGE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CHANGE_LIMIT);
+        }
+        if (sinceVersion < 0) {
+            throw new IllegalArgumentException("Version must not be negative");
+        }
+        return taskChangeFeed.findSince(projectId, sinceVersion, size);
+    }
+
+    private CursorPageResponseDTO<TaskResponseDTO> findTaskPage(UUID projectId, UUID assigneeId, TaskFilterRequestDTO filter) {
+        int size = filter.getSize() != null ? filter.getSize() : DEFAULT_PAGE_SIZE;
+        CursorCodec.Cursor cursor = CursorCodec.decode(filter.getCursor());
+
+        TaskPageCriteria criteria = TaskPageCriteria.builder()
+                .projectId(projectId)
+                .assigneeId(assigneeId)
+                .status(filter.getStatus())
+                .priority(filter.getPriority())
+                .archived(Boolean.TRUE.equals(filter.getArchived()))
+                .dueFrom(filter.getDueFrom())
+                .dueTo(filter.getDueTo())
+                .afterCreatedAt(cursor != null ? cursor.createdAt() : null)
+                .afterId(cursor != null ? parseCursorId(cursor) : null)
+                .limit(size + 1)
+                .build();
+
+        // One extra row tells us whether another page exists without a COUNT query
+        List<TaskView> rows = taskRepository.findPage(criteria);
+        boolean hasMore = rows.size() > size;
+        List<TaskView> page = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            TaskView last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.createdAt(), last.id());
+        }
+
+        return CursorPageResponseDTO.<TaskResponseDTO>builder()
+                .items(page.stream().map(this::mapToDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .size(page.size())
+                .build();
+    }
+
+    private static Tasks newTask(TaskCreateRequestDTO request, Projects project, Users assignee, Users user) {
+        return Tasks.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .project(project)
+                .assignee(assignee)
+                .reporter(user)
+                .createdBy(user)
+                .status(TaskStatus.TODO)
+                .priority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM)
+                .startDate(request.getStartDate())
+                .dueDate(request.getDueDate())
+                .estimateMinutes(request.getEstimateMinutes())
+                .tags(request.getTags())
+                .timeSpentMinutes(0)
+                .archived(false)
+                .build();
+    }
+
+    // Copies the editable fields onto the task and returns the ones that changed
+    private static Map<String, Object> applyDetails(Tasks task, TaskCreateRequestDTO request) {
+        TaskPriority priority = request.getPriority() != null ? request.getPriority() : task.getPriority();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "title", task.getTitle(), request.getTitle());
+        putIfChanged(changes, "description", task.getDescription(), request.getDescription());
+        putIfChanged(changes, "priority", task.getPriority(), priority);
+        putIfChanged(changes, "startDate", task.getStartDate(), request.getStartDate());
+        putIfChanged(changes, "dueDate", task.getDueDate(), request.getDueDate());
+        putIfChanged(changes, "estimateMinutes", task.getEstimateMinutes(), request.getEstimateMinutes());
+        putIfChanged(changes, "tags", task.getTags(), request.getTags());
+
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setPriority(priority);
+        task.setStartDate(request.getStartDate());
+        task.setDueDate(request.getDueDate());
+        task.setEstimateMinutes(request.getEstimateMinutes());
+        task.setTags(request.getTags());
+        return changes;
+    }
+
+    private static Map<String, Object> applyAssignee(Tasks task, Users assignee) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "assigneeId", task.getAssignee() != null ? task.getAssignee().getUserId() : null, assignee.getUserId());
+        if (!changes.isEmpty()) {
+            changes.put("assigneeName", assignee.getFirstName() + " " + assignee.getLastName());
+        }
+
+        task.setAssignee(assignee);
+        return changes;
+    }
+
+    private static Map<String, Object> applyStatus(Tasks task, String status) {
+        TaskStatus newStatus;
         try {
-            task.setStatus(TaskStatus.valueOf(status.toUpperCase()));
-            taskRepository.save(task);
-            log.info("Task status updated to: {}", status);
+            newStatus = TaskStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Invalid task status: " + status);
         }
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        putIfChanged(changes, "status", task.getStatus(), newStatus);
+
+        task.setStatus(newStatus);
+        return changes;
+    }
+
+    private static TaskCreateRequestDTO requireDetails(TaskBulkOperationDTO operation) {
+        if (operation.getTask() == null) {
+            throw new IllegalArgumentException("Task details are required");
+        }
+        return operation.getTask();
     }
 
-    @Override
-    public List<TaskResponseDTO> filterTasks(UUID projectId, String status, String priority, String assigneeId) {
-        // Implementation for filtering tasks
-        return List.of();
+    private static <T> T require(Map<UUID, T> loaded, UUID id, String notFound) {
+        T entity = loaded.get(id);
+        if (entity == null) {
+            throw new ResourceNotFoundException(notFound);
+        }
+        return entity;
+    }
+
+    private static void addIfPresent(Set<UUID> ids, UUID id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+
+    /**
+     * Adjusts the project's task count and evicts just that project from the second-level cache:
+     * now, and again after commit, since a concurrent load in between may cache the old count.
+     */
+    private void adjustTaskCount(UUID projectId, int delta) {
+        projectRepository.adjustTaskCount(projectId, delta);
+
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Projects.class, projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(Projects.class, projectId);
+                }
+            });
+        }
+    }
+
+    private UUID actorId(String email) {
+        return usersRepository.findIdByEmail(email).orElse(null);
+    }
+
+    private static void putIfChanged(Map<String, Object> changes, String field, Object before, Object after) {
+        if (!Objects.equals(before, after)) {
+            changes.put(field, after);
+        }
+    }
+
+    private UUID parseCursorId(CursorCodec.Cursor cursor) {
+        try {
+            return UUID.fromString(cursor.id());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     private TaskResponseDTO mapToDTO(Tasks task) {
@@ -187,10 +605,34 @@ public class TaskServiceImpl implements TaskService {
                 .estimateMinutes(task.getEstimateMinutes())
                 .timeSpentMinutes(task.getTimeSpentMinutes())
                 .tags(task.getTags())
-                .commentCount(task.getComments() != null ? task.getComments().size() : 0)
+                .commentCount(task.getCommentCount() != null ? task.getCommentCount() : 0)
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
                 .archived(task.getArchived())
                 .build();
     }
+
+    private TaskResponseDTO mapToDTO(TaskView task) {
+        return TaskResponseDTO.builder()
+                .id(task.id())
+                .projectId(task.projectId())
+                .key(task.key())
+                .title(task.title())
+                .description(task.description())
+                .status(task.status())
+                .priority(task.priority())
+                .assigneeId(task.assigneeId())
+                .assigneeName(task.assigneeId() != null ? task.assigneeFirstName() + " " + task.assigneeLastName() : null)
+                .reporterId(task.reporterId())
+                .startDate(task.startDate())
+                .dueDate(task.dueDate())
+                .estimateMinutes(task.estimateMinutes())
+                .timeSpentMinutes(task.timeSpentMinutes())
+                .tags(task.tags())
+                .commentCount(task.commentCount() != null ? task.commentCount() : 0)
+                .createdAt(task.createdAt())
+                .updatedAt(task.updatedAt())
+                .archived(task.archived())
+                .build();
+    }
 }
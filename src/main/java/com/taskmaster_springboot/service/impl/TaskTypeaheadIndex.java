@@ -0,0 +1,571 @@
+package com.taskmaster_springboot.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory typeahead index over task keys, titles and tags.
+ * <p>
+ * Every indexed version of a task is a document with an int id handed out in increasing order.
+ * Title and tag words go into a character trie whose nodes hold append-only posting lists of
+ * document ids, so a prefix matches a subtree of the trie. Keys ({@code PROJ-123}) are indexed
+ * separately as sorted task numbers per project key, so {@code PROJ-12} is a range lookup.
+ * Updating a task adds a new document and marks the old one dead; dead documents are skipped
+ * at query time and dropped when the index is rebuilt.
+ * <p>
+ * Results come newest document first, i.e. most recently created or changed tasks first.
+ * Reads run concurrently; writes take an exclusive lock.
+ */
+public final class TaskTypeaheadIndex {
+
+    /** A task as indexed. {@code tags} may be null. */
+    public record Entry(UUID id, UUID projectId, String key, String title, List<String> tags) {
+    }
+
+    public record Hit(UUID id, UUID projectId, String key, String title) {
+    }
+
+    private static final Pattern KEY_QUERY = Pattern.compile("([a-z][a-z0-9_]*)-(\\d{0,9})");
+    private static final Pattern KEY = Pattern.compile("([a-z][a-z0-9_]*)-(\\d{1,9})");
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Documents, indexed by document id
+    private long[] idMostBits = new long[INITIAL_CAPACITY];
+    private long[] idLeastBits = new long[INITIAL_CAPACITY];
+    private int[] projects = new int[INITIAL_CAPACITY];
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private String[] tagTexts = new String[INITIAL_CAPACITY];
+    private int[] tagHashes = new int[INITIAL_CAPACITY];
+    private final BitSet live = new BitSet();
+    private int documents;
+    private int liveDocuments;
+
+    // Task id -> live document id: open addressing over document ids (0 = empty, else doc + 1)
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    private final Map<UUID, Integer> projectOrdinals = new HashMap<>();
+    private final List<UUID> projectIds = new ArrayList<>();
+
+    private final Node root = new Node();
+    private int terms;
+    private final Map<String, KeyPostings> keyPostings = new HashMap<>();
+
+    /** Adds the task, replacing the version indexed before if any. */
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            int previous = find(entry.id());
+            if (previous >= 0) {
+                removeSlot(entry.id());
+                kill(previous);
+            }
+            int doc = addDocument(entry);
+            insertSlot(doc);
+
+            // Each distinct word once per document
+            Set<String> words = new LinkedHashSet<>(words(entry.title()));
+            if (entry.tags() != null) {
+                for (String tag : entry.tags()) {
+                    words.addAll(words(tag));
+                }
+            }
+            for (String word : words) {
+                addTerm(word, doc);
+            }
+            Matcher key = KEY.matcher(normalize(entry.key()));
+            if (key.matches()) {
+                keyPostings.computeIfAbsent(key.group(1), k -> new KeyPostings())
+                        .add(Integer.parseInt(key.group(2)), doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Drops the task; unknown ids are ignored. */
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            int doc = find(taskId);
+            if (doc >= 0) {
+                removeSlot(taskId);
+                kill(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks matching the query, at most {@code limit}. A query shaped like a task key
+     * ({@code PROJ-}, {@code PROJ-12}) matches keys of projects with that key whose number starts
+     * with the given digits; anything else is split into words, each of which must prefix a title
+     * or tag word of the task. {@code visibleProjects} limits the projects searched; null searches
+     * all of them.
+     */
+    public List<Hit> search(String query, Collection<UUID> visibleProjects, int limit) {
+        String normalized = normalize(query);
+        lock.readLock().lock();
+        try {
+            BitSet projectFilter = projectFilter(visibleProjects);
+            if (projectFilter != null && projectFilter.isEmpty()) {
+                return List.of();
+            }
+            Matcher key = KEY_QUERY.matcher(normalized);
+            if (key.matches()) {
+                return searchKeys(key.group(1), key.group(2), projectFilter, limit);
+            }
+            return searchWords(words(normalized), projectFilter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID taskId) {
+        lock.readLock().lock();
+        try {
+            return find(taskId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Whether the task is indexed with exactly these values. */
+    public boolean matches(Entry entry) {
+        lock.readLock().lock();
+        try {
+            int doc = find(entry.id());
+            return doc >= 0
+                    && projectIds.get(projects[doc]).equals(entry.projectId())
+                    && Objects.equals(keys[doc], entry.key())
+                    && Objects.equals(titles[doc], entry.title())
+                    && tagHashes[doc] == Objects.hashCode(entry.tags());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int liveDocuments() {
+        lock.readLock().lock();
+        try {
+            return liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int deadDocuments() {
+        lock.readLock().lock();
+        try {
+            return documents - liveDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int terms() {
+        lock.readLock().lock();
+        try {
+            return terms;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Queries
+
+    private List<Hit> searchKeys(String projectKey, String digits, BitSet projectFilter, int limit) {
+        KeyPostings postings = keyPostings.get(projectKey);
+        if (postings == null) {
+            return List.of();
+        }
+        List<Hit> hits = new ArrayList<>();
+        if (digits.isEmpty()) {
+            // Just the project key: the highest numbers, i.e. the newest tasks
+            for (int i = postings.size - 1; i >= 0 && hits.size() < limit; i--) {
+                collect(postings.docs[i], projectFilter, hits);
+            }
+            return hits;
+        }
+
+        // PROJ-12 matches 12, then 120-129, then 1200-1299, ...
+        long low = Long.parseLong(digits);
+        long high = low + 1;
+        for (int length = digits.length(); length <= 9 && hits.size() < limit; length++) {
+            if (low > Integer.MAX_VALUE) {
+                break;
+            }
+            for (int i = postings.lowerBound((int) low); i < postings.size && postings.numbers[i] < high
+                    && hits.size() < limit; i++) {
+                collect(postings.docs[i], projectFilter, hits);
+            }
+            if (low == 0) {
+                // Numbers have no leading zeros
+                break;
+            }
+            low *= 10;
+            high *= 10;
+        }
+        return hits;
+    }
+
+    private List<Hit> searchWords(List<String> words, BitSet projectFilter, int limit) {
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        List<Node> nodes = new ArrayList<>(words.size());
+        for (String word : words) {
+            Node node = root.find(word);
+            if (node == null) {
+                return List.of();
+            }
+            nodes.add(node);
+        }
+
+        // Walk the rarest prefix's documents newest first; check the other words against the
+        // document's title and tag words, the same fields the trie matched the first one in
+        int driver = 0;
+        for (int i = 1; i < nodes.size(); i++) {
+            if (nodes.get(i).subtreePostings < nodes.get(driver).subtreePostings) {
+                driver = i;
+            }
+        }
+        List<String> others = new ArrayList<>(words);
+        others.remove(driver);
+
+        List<Hit> hits = new ArrayList<>();
+        DescendingUnion union = new DescendingUnion(nodes.get(driver));
+        int doc;
+        while (hits.size() < limit && (doc = union.next()) >= 0) {
+            if (live.get(doc) && (others.isEmpty() || containsPrefixes(doc, others))) {
+                collect(doc, projectFilter, hits);
+            }
+        }
+        return hits;
+    }
+
+    private void collect(int doc, BitSet projectFilter, List<Hit> hits) {
+        if (!live.get(doc) || (projectFilter != null && !projectFilter.get(projects[doc]))) {
+            return;
+        }
+        hits.add(new Hit(new UUID(idMostBits[doc], idLeastBits[doc]), projectIds.get(projects[doc]),
+                keys[doc], titles[doc]));
+    }
+
+    private boolean containsPrefixes(int doc, List<String> prefixes) {
+        List<String> docWords = words(titles[doc]);
+        docWords.addAll(words(tagTexts[doc]));
+        for (String prefix : prefixes) {
+            boolean found = false;
+            for (String word : docWords) {
+                if (word.startsWith(prefix)) {
+                    found = true;
+                    break;
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BitSet projectFilter(Collection<UUID> visibleProjects) {
+        if (visibleProjects == null) {
+            return null;
+        }
+        BitSet filter = new BitSet(projectIds.size());
+        for (UUID projectId : visibleProjects) {
+            Integer ordinal = projectOrdinals.get(projectId);
+            if (ordinal != null) {
+                filter.set(ordinal);
+            }
+        }
+        return filter;
+    }
+
+    // Documents
+
+    private int addDocument(Entry entry) {
+        if (documents == idMostBits.length) {
+            int capacity = documents * 2;
+            idMostBits = Arrays.copyOf(idMostBits, capacity);
+            idLeastBits = Arrays.copyOf(idLeastBits, capacity);
+            projects = Arrays.copyOf(projects, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            titles = Arrays.copyOf(titles, capacity);
+            tagTexts = Arrays.copyOf(tagTexts, capacity);
+            tagHashes = Arrays.copyOf(tagHashes, capacity);
+        }
+        int doc = documents++;
+        idMostBits[doc] = entry.id().getMostSignificantBits();
+        idLeastBits[doc] = entry.id().getLeastSignificantBits();
+        projects[doc] = projectOrdinals.computeIfAbsent(entry.projectId(), id -> {
+            projectIds.add(id);
+            return projectIds.size() - 1;
+        });
+        keys[doc] = entry.key();
+        titles[doc] = entry.title();
+        // Tags joined by a non-word character, so they split into the same words as when indexed
+        tagTexts[doc] = entry.tags() != null
+                ? entry.tags().stream().filter(Objects::nonNull).collect(Collectors.joining(" ")) : null;
+        tagHashes[doc] = Objects.hashCode(entry.tags());
+        live.set(doc);
+        liveDocuments++;
+        return doc;
+    }
+
+    private void kill(int doc) {
+        live.clear(doc);
+        liveDocuments--;
+        titles[doc] = null;
+        tagTexts[doc] = null;
+        keys[doc] = null;
+    }
+
+    private void addTerm(String word, int doc) {
+        Node node = root;
+        node.subtreePostings++;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.child(word.charAt(i));
+            node.subtreePostings++;
+        }
+        if (node.postings == null) {
+            node.postings = new int[2];
+            terms++;
+        }
+        if (node.size == node.postings.length) {
+            node.postings = Arrays.copyOf(node.postings, node.size * 2);
+        }
+        node.postings[node.size++] = doc;
+    }
+
+    // Task id lookup table, linear probing over document ids
+
+    private int find(UUID taskId) {
+        int mask = slots.length - 1;
+        for (int i = hash(taskId) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int doc = slots[i] - 1;
+            if (idMostBits[doc] == taskId.getMostSignificantBits() && idLeastBits[doc] == taskId.getLeastSignificantBits()) {
+                return doc;
+            }
+        }
+        return -1;
+    }
+
+    private void insertSlot(int doc) {
+        if (liveDocuments * 2 > slots.length) {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            for (int value : old) {
+                if (value != 0) {
+                    placeSlot(value);
+                }
+            }
+        }
+        placeSlot(doc + 1);
+    }
+
+    private void placeSlot(int value) {
+        int doc = value - 1;
+        int mask = slots.length - 1;
+        int i = hash(new UUID(idMostBits[doc], idLeastBits[doc])) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = value;
+    }
+
+    private void removeSlot(UUID taskId) {
+        int mask = slots.length - 1;
+        int i = hash(taskId) & mask;
+        while (slots[i] != 0) {
+            int doc = slots[i] - 1;
+            if (idMostBits[doc] == taskId.getMostSignificantBits() && idLeastBits[doc] == taskId.getLeastSignificantBits()) {
+                break;
+            }
+            i = (i + 1) & mask;
+        }
+        // Backward-shift deletion keeps every probe chain unbroken
+        slots[i] = 0;
+        for (int j = (i + 1) & mask; slots[j] != 0; j = (j + 1) & mask) {
+            int value = slots[j];
+            int home = hash(new UUID(idMostBits[value - 1], idLeastBits[value - 1])) & mask;
+            if (((j - home) & mask) >= ((j - i) & mask)) {
+                slots[i] = value;
+                slots[j] = 0;
+                i = j;
+            }
+        }
+    }
+
+    private static int hash(UUID id) {
+        long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+        int h = (int) (bits ^ (bits >>> 32));
+        return h ^ (h >>> 16);
+    }
+
+    // Text
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Children sorted by label
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        private int[] postings;
+        private int size;
+        private int subtreePostings;
+
+        Node find(String word) {
+            Node node = this;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                int index = Arrays.binarySearch(node.labels, word.charAt(i));
+                node = index >= 0 ? node.children[index] : null;
+            }
+            return node;
+        }
+
+        Node child(char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insert = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            newLabels[insert] = label;
+            newChildren[insert] = new Node();
+            System.arraycopy(labels, insert, newLabels, insert + 1, labels.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[insert];
+        }
+    }
+
+    /**
+     * Document ids of every posting list under a trie node, highest first, without duplicates.
+     * Merges lazily, so a query that fills its page early reads little of a large subtree.
+     */
+    private static final class DescendingUnion {
+
+        private final PriorityQueue<int[]> cursors =
+                new PriorityQueue<>((a, b) -> Integer.compare(b[0], a[0]));
+        private final List<Node> nodes = new ArrayList<>();
+        private int last = -1;
+
+        DescendingUnion(Node node) {
+            addCursors(node);
+        }
+
+        private void addCursors(Node node) {
+            if (node.size > 0) {
+                // cursor = {current doc, node index, position}
+                nodes.add(node);
+                cursors.add(new int[]{node.postings[node.size - 1], nodes.size() - 1, node.size - 1});
+            }
+            for (Node child : node.children) {
+                addCursors(child);
+            }
+        }
+
+        int next() {
+            while (!cursors.isEmpty()) {
+                int[] cursor = cursors.poll();
+                int doc = cursor[0];
+                if (cursor[2] > 0) {
+                    cursor[2]--;
+                    cursor[0] = nodes.get(cursor[1]).postings[cursor[2]];
+                    cursors.add(cursor);
+                }
+                if (doc != last) {
+                    last = doc;
+                    return doc;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class KeyPostings {
+
+        // Task numbers with their document, sorted by number. A number may repeat: an updated
+        // task adds an entry for its new document, and two projects may share a key.
+        private int[] numbers = new int[4];
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int number, int doc) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            // Tasks are mostly numbered in creation order, so this is nearly always an append
+            int insert = lowerBound(number + 1);
+            System.arraycopy(numbers, insert, numbers, insert + 1, size - insert);
+            System.arraycopy(docs, insert, docs, insert + 1, size - insert);
+            numbers[insert] = number;
+            docs[insert] = doc;
+            size++;
+        }
+
+        int lowerBound(int number) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (numbers[mid] < number) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.taskmaster_springboot.dto.response.TaskTypeaheadIndexStatusDTO;
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.repository.TaskChangeEventsRepository;
+import com.taskmaster_springboot.repository.TaskIndexRow;
+import com.taskmaster_springboot.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Owns the {@link TaskTypeaheadIndex}: loads it from the database in the background once the
+ * application is ready, applies task changes after their transaction commits, and rebuilds it on
+ * request or once updates have left too many dead documents behind.
+ * <p>
+ * Changes made on other nodes reach the index through the task change feed: every few seconds the
+ * tasks with change events since the last sync (less an overlap for clock skew and late commits)
+ * are re-read and their documents put or dropped.
+ * <p>
+ * A rebuild streams every live task into a fresh index while the current one keeps serving;
+ * changes committed meanwhile are applied to both, and the fresh index replaces the current one
+ * when loaded. Until the first load completes there is no index and lookups report not ready.
+ */
+@Component
+@Slf4j
+public class TaskTypeaheadIndexer {
+
+    private static final int SAMPLE_SIZE = 20;
+    private static final int SYNC_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeEventsRepository changeEventsRepository;
+    private final TransactionTemplate readTransaction;
+    private final SimpleAsyncTaskExecutor rebuildExecutor = new SimpleAsyncTaskExecutor("typeahead-index-");
+
+    @Value("${app.tasks.typeahead.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.tasks.typeahead.rebuild-dead-ratio:0.5}")
+    private double rebuildDeadRatio;
+
+    @Value("${app.tasks.typeahead.sync-overlap:1m}")
+    private Duration syncOverlap;
+
+    private volatile TaskTypeaheadIndex index;
+    private volatile Instant builtAt;
+    private volatile Duration buildDuration;
+    // Change events from this instant on have not been synced yet; null until the first load
+    private volatile Instant syncedFrom;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Object changeLock = new Object();
+    // Changes committed while a rebuild runs, replayed onto the fresh index; null otherwise
+    private List<Consumer<TaskTypeaheadIndex>> pendingChanges;
+
+    public TaskTypeaheadIndexer(TaskRepository taskRepository,
+                                TaskChangeEventsRepository changeEventsRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.changeEventsRepository = changeEventsRepository;
+        // Not read-only: read-only transactions go to a replica, which may not have writes
+        // committed before a rebuild started yet
+        this.readTransaction = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("tasks.typeahead.documents", this, indexer -> indexer.count(TaskTypeaheadIndex::liveDocuments))
+                .tag("state", "live")
+                .register(meterRegistry);
+        Gauge.builder("tasks.typeahead.documents", this, indexer -> indexer.count(TaskTypeaheadIndex::deadDocuments))
+                .tag("state", "dead")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            rebuildAsync();
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /** Null when the index has not been loaded yet. */
+    public List<TaskTypeaheadIndex.Hit> search(String query, Collection<UUID> visibleProjects, int limit) {
+        TaskTypeaheadIndex current = index;
+        return current != null ? current.search(query, visibleProjects, limit) : null;
+    }
+
+    /** Starts a rebuild in the background; false when one is already running. */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.execute(this::rebuild);
+        return true;
+    }
+
+    /** Indexes the task as saved, once the current transaction commits. */
+    public void indexTask(Tasks task) {
+        if (!enabled) {
+            return;
+        }
+        TaskTypeaheadIndex.Entry entry = new TaskTypeaheadIndex.Entry(task.getId(), task.getProject().getId(),
+                task.getKey(), task.getTitle(), task.getTags() != null ? new ArrayList<>(task.getTags()) : null);
+        afterCommit(() -> apply(current -> current.put(entry)));
+    }
+
+    /** Drops the task (archived or deleted), once the current transaction commits. */
+    public void removeTask(UUID taskId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> apply(current -> current.remove(taskId)));
+    }
+
+    /** Applies tasks changed on any node since the last sync. */
+    @Scheduled(fixedDelayString = "${app.tasks.typeahead.sync-interval:5000}")
+    public void syncChanges() {
+        Instant from = syncedFrom;
+        if (!enabled || index == null || from == null || rebuilding.get()) {
+            return;
+        }
+
+        Instant now = Instant.now();
+        List<TaskIndexRow> live = new ArrayList<>();
+        Set<UUID> changed = new HashSet<>();
+        readTransaction.executeWithoutResult(tx -> {
+            List<UUID> ids = changeEventsRepository.findTaskIdsChangedSince(from.minus(syncOverlap));
+            changed.addAll(ids);
+            for (int i = 0; i < ids.size(); i += SYNC_BATCH_SIZE) {
+                live.addAll(taskRepository.findIndexRowsByIdIn(ids.subList(i, Math.min(i + SYNC_BATCH_SIZE, ids.size()))));
+            }
+        });
+        if (changed.isEmpty()) {
+            syncedFrom = now;
+            return;
+        }
+
+        List<TaskTypeaheadIndex.Entry> entries = live.stream().map(TaskTypeaheadIndexer::toEntry).toList();
+        live.forEach(row -> changed.remove(row.id()));
+        // Skip documents that are already current so that re-synced tasks leave no dead documents
+        apply(current -> {
+            entries.stream().filter(entry -> !current.matches(entry)).forEach(current::put);
+            changed.stream().filter(current::contains).forEach(current::remove);
+        });
+        syncedFrom = now;
+    }
+
+    /**
+     * Compares the index with the tasks table. Tasks changed while the check runs may show up
+     * as differences.
+     */
+    public TaskTypeaheadIndexStatusDTO check() {
+        TaskTypeaheadIndex current = index;
+        if (current == null) {
+            return status(null).build();
+        }
+
+        List<UUID> missing = new ArrayList<>();
+        List<UUID> stale = new ArrayList<>();
+        long[] counts = new long[3]; // tasks, missing, stale
+        readTransaction.executeWithoutResult(tx -> {
+            try (Stream<TaskIndexRow> rows = taskRepository.streamIndexRows()) {
+                rows.forEach(row -> {
+                    counts[0]++;
+                    TaskTypeaheadIndex.Entry entry = toEntry(row);
+                    if (current.matches(entry)) {
+                        return;
+                    }
+                    if (current.contains(row.id())) {
+                        counts[2]++;
+                        addSample(stale, row.id());
+                    } else {
+                        counts[1]++;
+                        addSample(missing, row.id());
+                    }
+                });
+            }
+        });
+
+        // Live documents with no live task behind them
+        long unexpected = Math.max(0, current.liveDocuments() - (counts[0] - counts[1]));
+        return status(current)
+                .checkedTasks(counts[0])
+                .missing(counts[1])
+                .stale(counts[2])
+                .unexpected(unexpected)
+                .missingSample(missing)
+                .staleSample(stale)
+                .consistent(counts[1] == 0 && counts[2] == 0 && unexpected == 0)
+                .build();
+    }
+
+    public TaskTypeaheadIndexStatusDTO status() {
+        return status(index).build();
+    }
+
+    private TaskTypeaheadIndexStatusDTO.TaskTypeaheadIndexStatusDTOBuilder status(TaskTypeaheadIndex current) {
+        return TaskTypeaheadIndexStatusDTO.builder()
+                .enabled(enabled)
+                .ready(current != null)
+                .rebuilding(rebuilding.get())
+                .liveDocuments(current != null ? current.liveDocuments() : 0)
+                .deadDocuments(current != null ? current.deadDocuments() : 0)
+                .terms(current != null ? current.terms() : 0)
+                .builtAt(builtAt)
+                .buildMillis(buildDuration != null ? buildDuration.toMillis() : null);
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        Instant started = Instant.now();
+        TaskTypeaheadIndex fresh = new TaskTypeaheadIndex();
+        try {
+            synchronized (changeLock) {
+                pendingChanges = new ArrayList<>();
+            }
+            readTransaction.executeWithoutResult(tx -> {
+                try (Stream<TaskIndexRow> rows = taskRepository.streamIndexRows()) {
+                    rows.forEach(row -> fresh.put(toEntry(row)));
+                }
+            });
+            synchronized (changeLock) {
+                pendingChanges.forEach(change -> change.accept(fresh));
+                pendingChanges = null;
+                index = fresh;
+            }
+            syncedFrom = started;
+            builtAt = Instant.now();
+            buildDuration = Duration.ofNanos(System.nanoTime() - start);
+            log.info("Typeahead index built: {} tasks, {} terms in {} ms",
+                    fresh.liveDocuments(), fresh.terms(), buildDuration.toMillis());
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            log.error("Typeahead index rebuild failed", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void apply(Consumer<TaskTypeaheadIndex> change) {
+        TaskTypeaheadIndex current;
+        synchronized (changeLock) {
+            current = index;
+            if (current != null) {
+                change.accept(current);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        }
+
+        // Updates leave dead documents behind; a rebuild drops them
+        if (current != null && current.deadDocuments() > Math.max(10_000, current.liveDocuments() * rebuildDeadRatio)
+                && rebuildAsync()) {
+            log.info("Rebuilding typeahead index: {} dead documents", current.deadDocuments());
+        }
+    }
+
+    private int count(ToIntFunction<TaskTypeaheadIndex> counter) {
+        TaskTypeaheadIndex current = index;
+        return current != null ? counter.applyAsInt(current) : 0;
+    }
+
+    private static TaskTypeaheadIndex.Entry toEntry(TaskIndexRow row) {
+        return new TaskTypeaheadIndex.Entry(row.id(), row.projectId(), row.key(), row.title(), row.tags());
+    }
+
+    private static void addSample(List<UUID> sample, UUID id) {
+        if (sample.size() < SAMPLE_SIZE) {
+            sample.add(id);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
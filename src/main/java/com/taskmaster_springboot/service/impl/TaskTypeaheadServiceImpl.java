@@ -0,0 +1,128 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmaster_springboot.dto.request.TaskTypeaheadRequestDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadIndexStatusDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadItemDTO;
+import com.taskmaster_springboot.dto.response.TaskTypeaheadResponseDTO;
+import com.taskmaster_springboot.exceptions.AuthenticationException;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.RoleName;
+import com.taskmaster_springboot.repository.ProjectRepository;
+import com.taskmaster_springboot.repository.UsersRepository;
+import com.taskmaster_springboot.service.TaskTypeaheadService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Task typeahead served from the in-memory {@link TaskTypeaheadIndex}. The projects each user
+ * can see are cached briefly ({@code app.tasks.typeahead.visibility-ttl}), so a keystroke does
+ * not reach the database; a project shared with a user shows up in their suggestions once the
+ * entry expires.
+ */
+@Service
+@Slf4j
+public class TaskTypeaheadServiceImpl implements TaskTypeaheadService {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final TaskTypeaheadIndexer indexer;
+    private final UsersRepository usersRepository;
+    private final ProjectRepository projectRepository;
+    private final Timer lookupTimer;
+
+    // Email -> visible project ids; empty for administrators, who see every project
+    private final Cache<String, Optional<Set<UUID>>> visibleProjects;
+
+    public TaskTypeaheadServiceImpl(TaskTypeaheadIndexer indexer,
+                                    UsersRepository usersRepository,
+                                    ProjectRepository projectRepository,
+                                    @Value("${app.tasks.typeahead.visibility-ttl:30s}") Duration visibilityTtl,
+                                    MeterRegistry meterRegistry) {
+        this.indexer = indexer;
+        this.usersRepository = usersRepository;
+        this.projectRepository = projectRepository;
+        this.lookupTimer = meterRegistry.timer("tasks.typeahead.latency");
+        this.visibleProjects = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(visibilityTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, visibleProjects, "typeahead-visibility");
+    }
+
+    @Override
+    public TaskTypeaheadResponseDTO typeahead(TaskTypeaheadRequestDTO request, String email) {
+        String query = request.getQ().trim();
+        int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT;
+
+        Set<UUID> projects = visibleProjects.get(email, this::loadVisibleProjects).orElse(null);
+        if (request.getProjectId() != null) {
+            projects = projects == null || projects.contains(request.getProjectId())
+                    ? Set.of(request.getProjectId())
+                    : Set.of();
+        }
+
+        Set<UUID> searched = projects;
+        List<TaskTypeaheadIndex.Hit> hits = lookupTimer.record(() -> indexer.search(query, searched, limit));
+
+        return TaskTypeaheadResponseDTO.builder()
+                .query(query)
+                .ready(hits != null)
+                .items(hits == null ? List.of() : hits.stream().map(this::mapToDTO).toList())
+                .build();
+    }
+
+    @Override
+    public TaskTypeaheadIndexStatusDTO getIndexStatus() {
+        return indexer.status();
+    }
+
+    @Override
+    public TaskTypeaheadIndexStatusDTO checkIndex() {
+        TaskTypeaheadIndexStatusDTO status = indexer.check();
+        if (Boolean.FALSE.equals(status.getConsistent())) {
+            log.warn("Typeahead index differs from the tasks table: {} missing, {} stale, {} unexpected",
+                    status.getMissing(), status.getStale(), status.getUnexpected());
+        }
+        return status;
+    }
+
+    @Override
+    public TaskTypeaheadIndexStatusDTO rebuildIndex() {
+        if (indexer.rebuildAsync()) {
+            log.info("Typeahead index rebuild requested");
+        }
+        return indexer.status();
+    }
+
+    private Optional<Set<UUID>> loadVisibleProjects(String email) {
+        Users user = usersRepository.findWithRolesByEmail(email)
+                .orElseThrow(() -> new AuthenticationException("User not found"));
+        if (user.getRoles().stream().anyMatch(role -> role.getName() == RoleName.ADMIN)) {
+            return Optional.empty();
+        }
+        return Optional.of(new HashSet<>(projectRepository.findVisibleProjectIds(user.getUserId())));
+    }
+
+    private TaskTypeaheadItemDTO mapToDTO(TaskTypeaheadIndex.Hit hit) {
+        return TaskTypeaheadItemDTO.builder()
+                .id(hit.id())
+                .projectId(hit.projectId())
+                .key(hit.key())
+                .title(hit.title())
+                .build();
+    }
+}
@@ -53,6 +53,7 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TeamResponseDTO getTeamById(UUID teamId) {
         Teams team = teamsRepository.findById(teamId)
                 .orElseThrow(() -> new ResourceNotFoundException("Team not found"));
@@ -60,6 +61,7 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TeamResponseDTO> getUserTeams(String email) {
         Users user = usersRepository.findByEmail(email);
         if (user == null) {
@@ -116,6 +118,7 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TeamResponseDTO> getAllTeams() {
         return teamsRepository.findAll().stream()
                 .filter(team -> !team.getArchived())
@@ -130,7 +133,7 @@ public class TeamServiceImpl implements TeamService {
                 .slug(team.getSlug())
                 .description(team.getDescription())
                 .createdById(team.getCreatedBy() != null ? team.getCreatedBy().getUserId() : null)
-                .memberCount(team.getMembers() != null ? team.getMembers().size() : 0)
+                .memberCount(team.getMemberCount() != null ? team.getMemberCount() : 0)
                 .createdAt(team.getCreatedAt())
                 .updatedAt(team.getUpdatedAt())
                 .archived(team.getArchived())
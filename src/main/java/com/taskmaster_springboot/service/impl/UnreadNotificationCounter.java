@@ -0,0 +1,78 @@
+package com.taskmaster_springboot.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmaster_springboot.repository.NotificationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Per-user unread notification counts, so the inbox badge does not count rows on every poll.
+ * Cached counts are adjusted after the changing transaction commits; a count that may have
+ * drifted (e.g. a load racing a commit) is corrected when its entry expires. Published as
+ * {@code cache.*} metrics under the name "unread-notifications".
+ * <p>
+ * The cache is local to the node and only sees changes committed through it. With several
+ * nodes behind a load balancer, a count served by another node is up to the TTL old, which
+ * is why the TTL is seconds rather than minutes: short enough for a badge, long enough to
+ * absorb a client's polling.
+ */
+@Component
+public class UnreadNotificationCounter {
+
+    private final Cache<UUID, Long> cache;
+    private final NotificationRepository notificationRepository;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     @Value("${app.notifications.unread-cache.ttl:10s}") Duration ttl,
+                                     @Value("${app.notifications.unread-cache.max-size:50000}") long maxSize,
+                                     MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "unread-notifications");
+    }
+
+    public long get(UUID userId) {
+        return cache.get(userId, notificationRepository::countUnread);
+    }
+
+    /**
+     * Adds {@code delta} to the user's cached count after commit. Users without a cached
+     * count are left alone; their next read loads it from the database.
+     */
+    public void adjust(UUID userId, long delta) {
+        afterCommit(() -> cache.asMap().computeIfPresent(userId, (id, count) -> Math.max(0, count + delta)));
+    }
+
+    /**
+     * Drops the user's cached count after commit, for changes whose effect on the count is not
+     * known exactly (bulk updates may race inserts the update did not see).
+     */
+    public void invalidate(UUID userId) {
+        afterCommit(() -> cache.invalidate(userId));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.Instant;
@@ -38,6 +39,7 @@ public class UserServiceImpl implements UserService {
 
 
     @Override
+    @Transactional
     public UserCreateResponseDTO createUser(UserCreateRequestDTO userCreateRequestDTO) {
 
         if (usersRepository.existsByEmail(userCreateRequestDTO.getEmail())) {
@@ -71,6 +73,7 @@ public class UserServiceImpl implements UserService {
 
 
     @Override
+    @Transactional
     public Boolean verifyEmailCode(String email, String code) {
 
         Users user = usersRepository.findByEmail(email);
@@ -100,6 +103,7 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void updateLastLogin(String email) {
         Users user = usersRepository.findByEmail(email);
 
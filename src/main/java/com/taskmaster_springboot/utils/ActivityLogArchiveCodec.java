@@ -0,0 +1,235 @@
+package com.taskmaster_springboot.utils;
+
+import com.taskmaster_springboot.repository.ActivityLogPageCriteria;
+import com.taskmaster_springboot.repository.ActivityLogView;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes a group of archived activity log rows as one gzip-compressed payload, stored column
+ * by column: ids, timestamps, then dictionary-encoded actors, actions and entity types, then
+ * entity ids and the free-form columns. Repetitive columns compress well this way.
+ */
+final class ActivityLogArchiveCodec {
+
+    private static final int MAGIC = 0x414C4F47; // "ALOG"
+    private static final int VERSION = 1;
+
+    private ActivityLogArchiveCodec() {
+    }
+
+    static byte[] encode(List<ActivityLogArchiveStore.ArchivedRow> rows) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(rows.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(buffer)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(rows.size());
+
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                out.writeLong(row.id());
+            }
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                out.writeLong(toMicros(row.createdAt()));
+            }
+
+            // Actors (id and name) are a dictionary of their own
+            Map<UUID, Integer> actorCodes = new HashMap<>();
+            List<ActivityLogArchiveStore.ArchivedRow> actorRows = new ArrayList<>();
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                if (row.actorId() != null && actorCodes.putIfAbsent(row.actorId(), actorCodes.size()) == null) {
+                    actorRows.add(row);
+                }
+            }
+            out.writeInt(actorRows.size());
+            for (ActivityLogArchiveStore.ArchivedRow row : actorRows) {
+                writeUuid(out, row.actorId());
+                writeString(out, row.actorFirstName());
+                writeString(out, row.actorLastName());
+            }
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                out.writeInt(row.actorId() == null ? -1 : actorCodes.get(row.actorId()));
+            }
+
+            writeDictionaryColumn(out, rows, ActivityLogArchiveStore.ArchivedRow::action);
+            writeDictionaryColumn(out, rows, ActivityLogArchiveStore.ArchivedRow::entityType);
+
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                out.writeBoolean(row.entityId() != null);
+                if (row.entityId() != null) {
+                    writeUuid(out, row.entityId());
+                }
+            }
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                writeString(out, row.data());
+            }
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                writeString(out, row.ip());
+            }
+            for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+                writeString(out, row.userAgent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode activity log archive group", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Decodes the payload and adds the rows matching the criteria's filters and keyset bound
+     * to {@code matches}, in stored order; the criteria's limit is left to the caller.
+     */
+    static void decode(byte[] payload, ActivityLogPageCriteria criteria, List<ActivityLogView> matches) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new ByteArrayInputStream(payload))))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not an activity log archive group");
+            }
+            int rows = in.readInt();
+
+            long[] ids = new long[rows];
+            long[] createdAt = new long[rows];
+            for (int i = 0; i < rows; i++) {
+                ids[i] = in.readLong();
+            }
+            for (int i = 0; i < rows; i++) {
+                createdAt[i] = in.readLong();
+            }
+
+            int actorCount = in.readInt();
+            UUID[] actorIds = new UUID[actorCount];
+            String[] firstNames = new String[actorCount];
+            String[] lastNames = new String[actorCount];
+            for (int i = 0; i < actorCount; i++) {
+                actorIds[i] = readUuid(in);
+                firstNames[i] = readString(in);
+                lastNames[i] = readString(in);
+            }
+            int[] actors = readCodes(in, rows);
+            String[] actionDictionary = readDictionary(in);
+            int[] actions = readCodes(in, rows);
+            String[] typeDictionary = readDictionary(in);
+            int[] types = readCodes(in, rows);
+
+            UUID[] entityIds = new UUID[rows];
+            for (int i = 0; i < rows; i++) {
+                entityIds[i] = in.readBoolean() ? readUuid(in) : null;
+            }
+            String[] data = new String[rows];
+            for (int i = 0; i < rows; i++) {
+                data[i] = readString(in);
+            }
+            // ip and user_agent columns follow; they are not part of the read model
+
+            for (int i = 0; i < rows; i++) {
+                Instant created = fromMicros(createdAt[i]);
+                UUID actorId = actors[i] < 0 ? null : actorIds[actors[i]];
+                String action = actions[i] < 0 ? null : actionDictionary[actions[i]];
+                String type = types[i] < 0 ? null : typeDictionary[types[i]];
+                if (criteria.entityId() != null && !criteria.entityId().equals(entityIds[i])) continue;
+                if (criteria.entityType() != null && !criteria.entityType().equals(type)) continue;
+                if (criteria.actorId() != null && !criteria.actorId().equals(actorId)) continue;
+                if (criteria.action() != null && !criteria.action().equals(action)) continue;
+                if (criteria.from() != null && created.isBefore(criteria.from())) continue;
+                if (criteria.to() != null && !created.isBefore(criteria.to())) continue;
+                if (criteria.beforeCreatedAt() != null) {
+                    int cmp = created.compareTo(criteria.beforeCreatedAt());
+                    if (cmp > 0 || (cmp == 0 && ids[i] >= criteria.beforeId())) continue;
+                }
+
+                matches.add(new ActivityLogView(ids[i], actorId,
+                        actors[i] < 0 ? null : firstNames[actors[i]], actors[i] < 0 ? null : lastNames[actors[i]],
+                        action, type, entityIds[i], data[i], created));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode activity log archive group", e);
+        }
+    }
+
+    // PostgreSQL timestamps have microsecond precision
+    static long toMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    // Distinct values first, then one code per row (-1 for null)
+    private static void writeDictionaryColumn(DataOutputStream out, List<ActivityLogArchiveStore.ArchivedRow> rows,
+                                              Function<ActivityLogArchiveStore.ArchivedRow, String> column) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+            String value = column.apply(row);
+            if (value != null && codes.putIfAbsent(value, codes.size()) == null) {
+                dictionary.add(value);
+            }
+        }
+        out.writeInt(dictionary.size());
+        for (String value : dictionary) {
+            writeString(out, value);
+        }
+        for (ActivityLogArchiveStore.ArchivedRow row : rows) {
+            String value = column.apply(row);
+            out.writeInt(value == null ? -1 : Objects.requireNonNull(codes.get(value)));
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        return length < 0 ? null : new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static int[] readCodes(DataInputStream in, int rows) throws IOException {
+        int[] codes = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            codes[i] = in.readInt();
+        }
+        return codes;
+    }
+
+    private static String[] readDictionary(DataInputStream in) throws IOException {
+        String[] values = new String[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(in);
+        }
+        return values;
+    }
+}
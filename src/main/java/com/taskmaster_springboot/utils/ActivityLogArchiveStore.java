@@ -0,0 +1,215 @@
+package com.taskmaster_springboot.utils;
+
+import com.taskmaster_springboot.repository.ActivityLogPageCriteria;
+import com.taskmaster_springboot.repository.ActivityLogView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stores expired activity-log partitions as compressed row groups in the database
+ * ({@code activity_log_archive_groups}), so every node reads the same archive, and scans them
+ * for historical reads. {@code activity_log_archives} holds one row per archived month.
+ * <p>
+ * Rows are written in created_at, id order, {@value #ROW_GROUP_SIZE} per group. Each group
+ * keeps its min/max created_at next to the payload, so groups outside a requested time range
+ * are skipped without being read; the payload format is {@link ActivityLogArchiveCodec}'s.
+ */
+@Component
+@Slf4j
+public class ActivityLogArchiveStore {
+
+    static final int ROW_GROUP_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    public ActivityLogArchiveStore(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.activity-log.archive.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Creates the archive tables; before partition maintenance, which may archive right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void createTables() {
+        if (!enabled) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // IF NOT EXISTS is not safe against a concurrent CREATE of the same table on another node
+            jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('activity_log_archives'))::text", String.class);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS activity_log_archives (" +
+                    "month date PRIMARY KEY, " +
+                    "row_count bigint NOT NULL, " +
+                    "archived_at timestamptz NOT NULL DEFAULT now())");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS activity_log_archive_groups (" +
+                    "month date NOT NULL REFERENCES activity_log_archives (month), " +
+                    "group_no integer NOT NULL, " +
+                    "min_created_at timestamptz NOT NULL, " +
+                    "max_created_at timestamptz NOT NULL, " +
+                    "row_count integer NOT NULL, " +
+                    "payload bytea NOT NULL, " +
+                    "PRIMARY KEY (month, group_no))");
+        });
+    }
+
+    /**
+     * Streams rows of one month (in created_at, id order) into the archive. Groups are written
+     * in the caller's transaction, so they only become visible if that transaction commits. Rows
+     * of a month that is archived already (late rows that landed in the default partition) are
+     * added as further groups.
+     */
+    public ArchiveWriter open(YearMonth month) {
+        jdbcTemplate.update("INSERT INTO activity_log_archives (month, row_count) VALUES (?, 0) " +
+                "ON CONFLICT (month) DO NOTHING", toDate(month));
+        Integer next = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(group_no) + 1, 0) FROM activity_log_archive_groups WHERE month = ?",
+                Integer.class, toDate(month));
+        return new ArchiveWriter(month, next);
+    }
+
+    /**
+     * Newest-first rows from the archives matching the criteria (the keyset bound is
+     * {@code beforeCreatedAt}/{@code beforeId}), at most {@code criteria.limit()} of them.
+     */
+    public List<ActivityLogView> findPage(ActivityLogPageCriteria criteria) {
+        List<ActivityLogView> result = new ArrayList<>();
+        if (!enabled) {
+            return result;
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT month, group_no FROM activity_log_archive_groups WHERE true");
+        List<Object> params = new ArrayList<>();
+        if (criteria.from() != null) {
+            sql.append(" AND max_created_at >= ?");
+            params.add(Timestamp.from(criteria.from()));
+        }
+        if (criteria.to() != null) {
+            sql.append(" AND min_created_at < ?");
+            params.add(Timestamp.from(criteria.to()));
+        }
+        if (criteria.beforeCreatedAt() != null) {
+            sql.append(" AND min_created_at <= ?");
+            params.add(Timestamp.from(criteria.beforeCreatedAt()));
+        }
+        sql.append(" ORDER BY month DESC, group_no");
+
+        // Months never overlap, but groups added to a month later may overlap its earlier ones
+        Map<LocalDate, List<Integer>> groupsByMonth = new LinkedHashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            groupsByMonth.computeIfAbsent(rs.getDate("month").toLocalDate(), month -> new ArrayList<>())
+                    .add(rs.getInt("group_no"));
+        }, params.toArray());
+
+        for (Map.Entry<LocalDate, List<Integer>> month : groupsByMonth.entrySet()) {
+            List<ActivityLogView> matches = new ArrayList<>();
+            for (Integer groupNo : month.getValue()) {
+                byte[] payload = jdbcTemplate.queryForObject(
+                        "SELECT payload FROM activity_log_archive_groups WHERE month = ? AND group_no = ?",
+                        byte[].class, Date.valueOf(month.getKey()), groupNo);
+                ActivityLogArchiveCodec.decode(payload, criteria, matches);
+            }
+            matches.sort(Comparator.comparing(ActivityLogView::createdAt).thenComparing(ActivityLogView::id).reversed());
+            for (ActivityLogView row : matches) {
+                if (result.size() == criteria.limit()) {
+                    return result;
+                }
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    private static Date toDate(YearMonth month) {
+        return Date.valueOf(month.atDay(1));
+    }
+
+    /**
+     * One archived row, as read from the partition being exported.
+     */
+    public record ArchivedRow(long id, Instant createdAt, UUID actorId, String actorFirstName, String actorLastName,
+                              String action, String entityType, UUID entityId, String data, String ip,
+                              String userAgent) {
+    }
+
+    public final class ArchiveWriter {
+
+        private final YearMonth month;
+        private final List<ArchivedRow> group = new ArrayList<>(ROW_GROUP_SIZE);
+        private int nextGroup;
+        private long rows;
+
+        private ArchiveWriter(YearMonth month, int nextGroup) {
+            this.month = month;
+            this.nextGroup = nextGroup;
+        }
+
+        public void add(ArchivedRow row) {
+            group.add(row);
+            rows++;
+            if (group.size() == ROW_GROUP_SIZE) {
+                flushGroup();
+            }
+        }
+
+        public long rows() {
+            return rows;
+        }
+
+        /**
+         * Writes the last group and adds the rows to the month's count.
+         */
+        public void finish() {
+            flushGroup();
+            jdbcTemplate.update("UPDATE activity_log_archives SET row_count = row_count + ?, archived_at = now() " +
+                    "WHERE month = ?", rows, toDate(month));
+        }
+
+        private void flushGroup() {
+            if (group.isEmpty()) {
+                return;
+            }
+            Instant min = group.get(0).createdAt();
+            Instant max = min;
+            for (ArchivedRow row : group) {
+                min = row.createdAt().isBefore(min) ? row.createdAt() : min;
+                max = row.createdAt().isAfter(max) ? row.createdAt() : max;
+            }
+            jdbcTemplate.update("INSERT INTO activity_log_archive_groups " +
+                            "(month, group_no, min_created_at, max_created_at, row_count, payload) VALUES (?, ?, ?, ?, ?, ?)",
+                    toDate(month), nextGroup++, Timestamp.from(min), Timestamp.from(max), group.size(),
+                    ActivityLogArchiveCodec.encode(group));
+            group.clear();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.taskmaster_springboot.utils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal email template engine. Templates live in {@code classpath:templates/email/} as
+ * {@code <name>.html}, with localized variants named {@code <name>_<lang>.html} or
+ * {@code <name>_<lang>_<COUNTRY>.html}. The first line may be {@code Subject: ...},
+ * separated from the HTML body by a blank line.
+ * <p>
+ * {@code {{variable}}} placeholders are HTML-escaped in the body and inserted as-is in the
+ * subject. Each template is split once at startup into its literal text and variable names,
+ * so rendering only escapes the variables and appends everything into an exactly sized
+ * {@link StringBuilder}.
+ */
+@Component
+@Slf4j
+public class EmailTemplateEngine {
+
+    private static final String LOCATION = "classpath*:templates/email/*.html";
+    private static final String SUBJECT_PREFIX = "Subject:";
+    private static final int MAX_NARROWED_LOCALES = 256;
+
+    private static final boolean[] ESCAPED = new boolean['>' + 1];
+
+    static {
+        for (char c : "&<>\"'".toCharArray()) {
+            ESCAPED[c] = true;
+        }
+    }
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    // Locales some template has a variant for; requested locales are narrowed to one of these
+    // (or ROOT) before the lookup, so arbitrary Accept-Language values cannot grow the cache
+    private final Set<Locale> supportedLocales = new HashSet<>();
+
+    // Locale fallback resolved once per (supported locale, name)
+    private final Map<Locale, Map<String, EmailTemplate>> resolved = new ConcurrentHashMap<>();
+
+    // Requested locale -> supported locale, for the first locales seen: narrowing builds
+    // Locale instances, which costs more than rendering a short template
+    private final Map<Locale, Locale> narrowed = new ConcurrentHashMap<>();
+
+    public record RenderedEmail(String subject, String body) {
+    }
+
+    @PostConstruct
+    void loadTemplates() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                String name = filename.substring(0, filename.length() - ".html".length());
+                templates.put(name, parse(name, resource.getContentAsString(StandardCharsets.UTF_8)));
+                supportedLocales.add(variantLocale(name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email templates", e);
+        }
+        log.info("Loaded {} email templates", templates.size());
+    }
+
+    /**
+     * Renders the most specific variant of {@code name} for the locale
+     * (language + country, then language, then the default template).
+     */
+    public RenderedEmail render(String name, Locale locale, Map<String, ?> variables) {
+        EmailTemplate template = resolve(name, locale);
+        String subject = template.subject() == null ? null : template.subject().render(variables, false);
+        return new RenderedEmail(subject, template.body().render(variables, true));
+    }
+
+    private EmailTemplate resolve(String name, Locale locale) {
+        Locale key = supportedLocale(locale);
+        return resolved.computeIfAbsent(key, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, n -> lookup(n, key));
+    }
+
+    private Locale supportedLocale(Locale locale) {
+        if (locale == null) {
+            return Locale.ROOT;
+        }
+        Locale supported = narrowed.get(locale);
+        if (supported == null) {
+            supported = narrow(locale);
+            if (narrowed.size() < MAX_NARROWED_LOCALES) {
+                narrowed.put(locale, supported);
+            }
+        }
+        return supported;
+    }
+
+    private Locale narrow(Locale locale) {
+        if (locale.getLanguage().isEmpty()) {
+            return Locale.ROOT;
+        }
+        Locale withCountry = Locale.of(locale.getLanguage(), locale.getCountry());
+        if (supportedLocales.contains(withCountry)) {
+            return withCountry;
+        }
+        Locale language = Locale.of(locale.getLanguage());
+        return supportedLocales.contains(language) ? language : Locale.ROOT;
+    }
+
+    // password-reset_de_AT -> de_AT, verification -> ROOT
+    private static Locale variantLocale(String name) {
+        String[] parts = name.split("_");
+        return switch (parts.length) {
+            case 2 -> Locale.of(parts[1]);
+            case 3 -> Locale.of(parts[1], parts[2]);
+            default -> Locale.ROOT;
+        };
+    }
+
+    private EmailTemplate lookup(String name, Locale locale) {
+        if (!locale.getLanguage().isEmpty()) {
+            if (!locale.getCountry().isEmpty()) {
+                EmailTemplate template = templates.get(name + "_" + locale.getLanguage() + "_" + locale.getCountry());
+                if (template != null) {
+                    return template;
+                }
+            }
+            EmailTemplate template = templates.get(name + "_" + locale.getLanguage());
+            if (template != null) {
+                return template;
+            }
+        }
+        EmailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template: " + name);
+        }
+        return template;
+    }
+
+    static EmailTemplate parse(String name, String source) {
+        String subject = null;
+        String body = source;
+        if (source.startsWith(SUBJECT_PREFIX)) {
+            int lineEnd = source.indexOf('\n');
+            subject = (lineEnd < 0 ? source : source.substring(0, lineEnd)).substring(SUBJECT_PREFIX.length()).trim();
+            body = lineEnd < 0 ? "" : source.substring(lineEnd + 1).stripLeading();
+        }
+        return new EmailTemplate(subject == null ? null : compile(name, subject), compile(name, body));
+    }
+
+    static CompiledTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int pos = 0;
+
+        while (pos < source.length()) {
+            int open = source.indexOf("{{", pos);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalStateException("Unclosed placeholder in email template " + name + " at offset " + open);
+            }
+            literals.add(source.substring(pos, open));
+            variables.add(source.substring(open + 2, close).trim());
+            pos = close + 2;
+        }
+        literals.add(source.substring(pos));
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    static String escapeHtml(String value) {
+        int start = 0;
+        while (start < value.length() && !needsEscape(value.charAt(start))) {
+            start++;
+        }
+        if (start == value.length()) {
+            return value;
+        }
+
+        StringBuilder out = new StringBuilder(value.length() + 16).append(value, 0, start);
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean needsEscape(char c) {
+        return c <= '>' && ESCAPED[c];
+    }
+
+    record EmailTemplate(CompiledTemplate subject, CompiledTemplate body) {
+    }
+
+    /**
+     * The template as literal text around its variables: {@code literals[i]} comes before
+     * {@code variables[i]}, and the last literal after the last variable.
+     */
+    record CompiledTemplate(String[] literals, String[] variables, int literalLength) {
+
+        CompiledTemplate(String[] literals, String[] variables) {
+            this(literals, variables, Arrays.stream(literals).mapToInt(String::length).sum());
+        }
+
+        String render(Map<String, ?> values, boolean escape) {
+            String[] args = new String[variables.length];
+            int length = literalLength;
+            for (int i = 0; i < args.length; i++) {
+                Object value = values.get(variables[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing email template variable: " + variables[i]);
+                }
+                args[i] = escape ? escapeHtml(value.toString()) : value.toString();
+                length += args[i].length();
+            }
+
+            StringBuilder out = new StringBuilder(length);
+            for (int i = 0; i < args.length; i++) {
+                out.append(literals[i]).append(args[i]);
+            }
+            return out.append(literals[args.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+-- Runs after Hibernate has created/updated the schema (spring.jpa.defer-datasource-initialization).
+-- Holds DDL that cannot be expressed with JPA annotations; every statement must be idempotent.
+-- Statements end with ';;' (spring.sql.init.separator) so function bodies can contain ';'.
+
+-- Unread badge counts and mark-all-read only touch unread rows, which stay a small share of the table
+CREATE INDEX IF NOT EXISTS idx_notifications_unread
+    ON notifications (user_id, created_at DESC, id DESC)
+    WHERE is_read = false;;
+
+-- Compaction scans read notifications by age
+CREATE INDEX IF NOT EXISTS idx_notifications_read_created
+    ON notifications (created_at)
+    WHERE is_read = true;;
+
+-- Task full-text search. search_vector is kept by triggers and never mapped on the entity:
+-- key and title weigh most (A), then tags (B), description (C) and the task's comments (D).
+-- comments_vector caches the comments part so a task update does not re-read its comments.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS comments_vector tsvector;;
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector;;
+
+CREATE OR REPLACE FUNCTION tasks_search_vector_refresh() RETURNS trigger AS $$
+BEGIN
+    NEW.search_vector :=
+            setweight(to_tsvector('english', coalesce(NEW.key, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(NEW.title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(array_to_string(NEW.tags, ' '), '')), 'B') ||
+            setweight(to_tsvector('english', coalesce(NEW.description, '')), 'C') ||
+            setweight(coalesce(NEW.comments_vector, ''::tsvector), 'D');
+    RETURN NEW;
+END
+$$ LANGUAGE plpgsql;;
+
+CREATE OR REPLACE FUNCTION task_comments_search_refresh() RETURNS trigger AS $$
+DECLARE
+    affected uuid;
+BEGIN
+    FOR affected IN
+        SELECT DISTINCT task_id FROM (VALUES
+            (CASE WHEN TG_OP <> 'INSERT' THEN OLD.task_id END),
+            (CASE WHEN TG_OP <> 'DELETE' THEN NEW.task_id END)) AS changed(task_id)
+        WHERE task_id IS NOT NULL
+    LOOP
+        UPDATE tasks
+        SET comments_vector = (SELECT to_tsvector('english', string_agg(c.content, ' '))
+                               FROM task_comments c WHERE c.task_id = affected)
+        WHERE id = affected;
+    END LOOP;
+    RETURN NULL;
+END
+$$ LANGUAGE plpgsql;;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_tasks_search_vector') THEN
+        CREATE TRIGGER trg_tasks_search_vector
+            BEFORE INSERT OR UPDATE OF key, title, tags, description, comments_vector ON tasks
+            FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_refresh();
+    END IF;
+    IF NOT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_task_comments_search') THEN
+        CREATE TRIGGER trg_task_comments_search
+            AFTER INSERT OR DELETE OR UPDATE OF content, task_id ON task_comments
+            FOR EACH ROW EXECUTE FUNCTION task_comments_search_refresh();
+    END IF;
+END
+$$;;
+
+-- Backfill tasks written before the triggers existed; a no-op once every row has a vector
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM tasks WHERE search_vector IS NULL) THEN
+        UPDATE tasks t
+        SET comments_vector = c.vector
+        FROM (SELECT task_id, to_tsvector('english', string_agg(content, ' ')) AS vector
+              FROM task_comments GROUP BY task_id) c
+        WHERE c.task_id = t.id AND t.search_vector IS NULL;
+
+        UPDATE tasks SET title = title WHERE search_vector IS NULL;
+    END IF;
+END
+$$;;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search ON tasks USING gin (search_vector);;
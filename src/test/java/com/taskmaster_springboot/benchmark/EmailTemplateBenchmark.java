@@ -0,0 +1,101 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.utils.EmailTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering cost of a bulk send: one password-reset email per recipient, through the former
+ * string concatenation and through {@link EmailTemplateEngine}.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.EmailTemplateBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    // Non-constant, like the @Value fields in EmailServiceImpl, so javac cannot fold them into literals
+    private String platformName = "taskmaster-springboot";
+    private String frontendUrl = "http://localhost:3000";
+
+    @Param({"1000"})
+    private int recipients;
+
+    private EmailTemplateEngine engine;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        engine = new EmailTemplateEngine();
+        ReflectionTestUtils.invokeMethod(engine, "loadTemplates");
+
+        tokens = new String[recipients];
+        for (int i = 0; i < recipients; i++) {
+            tokens[i] = "token-" + i + "-Zm9vYmFyYmF6";
+        }
+    }
+
+    @Benchmark
+    public void concatenation(Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(platformName + " - Password Reset Request");
+            blackhole.consume(buildPasswordResetEmailBody(token));
+        }
+    }
+
+    @Benchmark
+    public void compiledTemplate(Blackhole blackhole) {
+        for (String token : tokens) {
+            blackhole.consume(engine.render("password-reset", Locale.ENGLISH, Map.of(
+                    "platformName", platformName,
+                    "resetLink", frontendUrl + "/reset-password?token=" + token)));
+        }
+    }
+
+    // Former EmailServiceImpl implementation, kept here as the baseline
+    private String buildPasswordResetEmailBody(String token) {
+        String resetLink = frontendUrl + "/reset-password?token=" + token;
+
+        return "<html>" +
+                "<body style='font-family: Arial, sans-serif;'>" +
+                "<h2>Password Reset Request</h2>" +
+                "<p>We received a request to reset your " + platformName + " password.</p>" +
+                "<p>Click the button below to reset your password:</p>" +
+                "<p><a href='" + resetLink + "' style='background-color: #007bff; color: white; padding: 10px 20px; text-decoration: none; border-radius: 5px;'>Reset Password</a></p>" +
+                "<p style='color: #666;'>This link will expire in 1 hour.</p>" +
+                "<p>If you did not request this, please ignore this email or contact support.</p>" +
+                "<p>Best regards,<br>" + platformName + " Team</p>" +
+                "</body>" +
+                "</html>";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
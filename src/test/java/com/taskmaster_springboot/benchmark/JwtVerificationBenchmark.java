@@ -0,0 +1,100 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT verification cost.
+ * <p>
+ * {@code legacyPerRequest} reproduces the former filter path: extract the subject, then
+ * {@code isTokenValid} extracting subject and expiry again, each call deriving the key and
+ * building a parser before verifying the signature (three verifications).
+ * {@code singleParsePerRequest} is the current path: one verification with the shared parser,
+ * then validation against the claims already in hand.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.JwtVerificationBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+    private static final String SUBJECT = "bench@taskmaster.test";
+
+    private JwtServiceImpl jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        token = jwtService.generateToken(SUBJECT);
+        userDetails = new User(SUBJECT, "n/a", List.of());
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyParse(token).getSubject();
+        String subject = legacyParse(token).getSubject();
+        Date expiration = legacyParse(token).getExpiration();
+        return username.equals(userDetails.getUsername())
+                && subject.equals(userDetails.getUsername())
+                && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public boolean singleParsePerRequest() {
+        Claims claims = jwtService.verifyToken(token);
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    private static Claims legacyParse(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.TaskmasterSpringbootApplication;
+import com.taskmaster_springboot.dto.response.NotificationResponseDTO;
+import com.taskmaster_springboot.service.NotificationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a list request in a read-write versus a read-only transaction: the notification inbox
+ * of a user with {@code notifications} notifications, loaded as entities and mapped to DTOs.
+ * <p>
+ * {@code readOnly} is the service call as shipped. {@code readWrite} makes the same call inside an
+ * outer read-write transaction, which the service method joins, so Hibernate keeps a snapshot of
+ * every loaded entity (including a deep copy of its JSON payload) and dirty-checks them all on the
+ * flush at commit. The GC profiler's {@code gc.alloc.rate.norm} gives the heap allocated per
+ * request, the score the time, which here is mostly CPU.
+ * <p>
+ * Needs a PostgreSQL database, {@code taskmaster_bench} on localhost by default
+ * ({@code -Dbench.jdbc-url}, {@code -Dbench.db-user}, {@code -Dbench.db-password}); the user and
+ * notifications are added on the first run.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.ReadOnlyTransactionBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadOnlyTransactionBenchmark {
+
+    private static final String USER = "bench-inbox@taskmaster.test";
+
+    @Param({"5000"})
+    private int notifications;
+
+    private ConfigurableApplicationContext context;
+    private NotificationService notificationService;
+    private TransactionTemplate readWriteTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc-url", "jdbc:postgresql://localhost:5432/taskmaster_bench");
+        context = new SpringApplicationBuilder(TaskmasterSpringbootApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + System.getProperty("bench.db-user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("bench.db-password", "postgres"),
+                        "--jwt.secret=benchmark-secret-benchmark-secret-0123456789",
+                        "--app.tasks.typeahead.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        notificationService = context.getBean(NotificationService.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        seed(context.getBean(JdbcTemplate.class), notifications);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<NotificationResponseDTO> readOnly() {
+        return notificationService.getUserNotifications(USER);
+    }
+
+    @Benchmark
+    public List<NotificationResponseDTO> readWrite() {
+        return readWriteTransaction.execute(status -> notificationService.getUserNotifications(USER));
+    }
+
+    private static void seed(JdbcTemplate jdbc, int notifications) {
+        Long existing = jdbc.queryForObject("""
+                SELECT count(*) FROM notifications n JOIN users u ON u.id = n.user_id WHERE u.email = ?""",
+                Long.class, USER);
+        if (existing != null && existing == notifications) {
+            return;
+        }
+        jdbc.update("DELETE FROM notifications WHERE user_id IN (SELECT id FROM users WHERE email = ?)", USER);
+        jdbc.update("""
+                INSERT INTO users (id, username, email, password_hash, first_name, last_name, status, email_verified,
+                                   created_at, updated_at)
+                SELECT gen_random_uuid(), 'bench-inbox', ?, 'x', 'Bench', 'Inbox', 'ACTIVE', true, now(), now()
+                WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = ?)""", USER, USER);
+        jdbc.update("""
+                INSERT INTO notifications (id, user_id, type, channel, payload, is_read, created_at)
+                SELECT gen_random_uuid(), u.id, 'TASK_UPDATED', 'WEBSOCKET',
+                       jsonb_build_object('taskId', gen_random_uuid(), 'taskKey', 'SB-' || g,
+                                          'title', 'Bench task ' || g, 'status', 'IN_PROGRESS'),
+                       g % 3 = 0, now() - g * interval '1 minute'
+                FROM users u, generate_series(1, ?) g WHERE u.email = ?""", notifications, USER);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReadOnlyTransactionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,211 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.TaskmasterSpringbootApplication;
+import com.taskmaster_springboot.dto.request.TaskSearchRequestDTO;
+import com.taskmaster_springboot.dto.response.TaskSearchResponseDTO;
+import com.taskmaster_springboot.service.TaskSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-text task search latency on a generated dataset ({@code bench.tasks} tasks, one million
+ * by default) spread over 200 projects, with one comment on every tenth task.
+ * <p>
+ * Titles and descriptions draw words from a 1,728-word vocabulary with Zipf-like frequencies,
+ * so {@code rareTerm} matches a fraction of a percent of the tasks, {@code mediumTerm} a few
+ * percent and {@code commonTerm} nearly all of them (the case bounded by
+ * {@code app.tasks.search.max-candidates}). The viewer is a regular user who can see 60 of the
+ * 200 projects; {@code adminCommonTerm} searches every project.
+ * <p>
+ * Needs an empty PostgreSQL database, {@code taskmaster_bench} on localhost by default
+ * ({@code -Dbench.jdbc-url}, {@code -Dbench.db-user}, {@code -Dbench.db-password}). The data is
+ * generated on the first run and reused while the task count matches; generating a million
+ * tasks takes several minutes.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.TaskSearchBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String VIEWER = "bench-viewer@taskmaster.test";
+    private static final String ADMIN = "bench-admin@taskmaster.test";
+
+    private static final int PROJECTS = 200;
+    private static final int CHUNK = 50_000;
+
+    private static final List<String> VOCABULARY = vocabulary();
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService taskSearchService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.jdbc-url", "jdbc:postgresql://localhost:5432/taskmaster_bench");
+        long tasks = Long.getLong("bench.tasks", 1_000_000);
+
+        context = new SpringApplicationBuilder(TaskmasterSpringbootApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + System.getProperty("bench.db-user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("bench.db-password", "postgres"),
+                        "--jwt.secret=benchmark-secret-benchmark-secret-0123456789",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        taskSearchService = context.getBean(TaskSearchService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        Long existing = jdbc.queryForObject("SELECT count(*) FROM tasks", Long.class);
+        if (existing == null || existing != tasks) {
+            seed(jdbc, tasks);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO rareTerm() {
+        return taskSearchService.search(request(VOCABULARY.get(1500)), VIEWER);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO mediumTerm() {
+        return taskSearchService.search(request(VOCABULARY.get(100)), VIEWER);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO commonTerm() {
+        return taskSearchService.search(request(VOCABULARY.get(1)), VIEWER);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO twoTerms() {
+        return taskSearchService.search(request(VOCABULARY.get(20) + " " + VOCABULARY.get(300)), VIEWER);
+    }
+
+    @Benchmark
+    public TaskSearchResponseDTO adminCommonTerm() {
+        return taskSearchService.search(request(VOCABULARY.get(1)), ADMIN);
+    }
+
+    private static TaskSearchRequestDTO request(String q) {
+        TaskSearchRequestDTO request = new TaskSearchRequestDTO();
+        request.setQ(q);
+        return request;
+    }
+
+    private static void seed(JdbcTemplate jdbc, long tasks) {
+        System.out.println("Generating " + tasks + " tasks...");
+        jdbc.execute("TRUNCATE task_comments, tasks, project_members, projects, team_members, teams, user_roles, users CASCADE");
+
+        jdbc.update("INSERT INTO roles (name) SELECT 'ADMIN' WHERE NOT EXISTS (SELECT 1 FROM roles WHERE name = 'ADMIN')");
+        jdbc.update("""
+                INSERT INTO users (id, username, email, password_hash, first_name, last_name, status, email_verified,
+                                   created_at, updated_at)
+                VALUES (gen_random_uuid(), 'bench-viewer', ?, 'x', 'Bench', 'Viewer', 'ACTIVE', true, now(), now()),
+                       (gen_random_uuid(), 'bench-admin', ?, 'x', 'Bench', 'Admin', 'ACTIVE', true, now(), now()),
+                       (gen_random_uuid(), 'bench-owner', 'bench-owner@taskmaster.test', 'x', 'Bench', 'Owner', 'ACTIVE',
+                        true, now(), now())""", VIEWER, ADMIN);
+        jdbc.update("""
+                INSERT INTO user_roles (user_id, role_id)
+                SELECT u.id, r.id FROM users u, roles r WHERE u.email = ? AND r.name = 'ADMIN'""", ADMIN);
+        jdbc.update("""
+                INSERT INTO teams (id, name, created_at, updated_at, archived)
+                VALUES (gen_random_uuid(), 'Viewer team', now(), now(), false),
+                       (gen_random_uuid(), 'Other team', now(), now(), false)""");
+        jdbc.update("""
+                INSERT INTO team_members (team_id, user_id, role, joined_at)
+                SELECT t.id, u.id, 'MEMBER', now() FROM teams t, users u WHERE t.name = 'Viewer team' AND u.email = ?""",
+                VIEWER);
+
+        // Projects 1-20 public, 21-50 team-visible to the viewer's team, 51-60 private with the
+        // viewer as a member; the rest are private or belong to the other team
+        jdbc.update("""
+                INSERT INTO projects (id, key, name, status, visibility, owner_id, team_id, created_at, updated_at, archived)
+                SELECT gen_random_uuid(), 'SB' || g, 'Bench project ' || g, 'ACTIVE',
+                       CASE WHEN g <= 20 THEN 'PUBLIC' WHEN g <= 50 OR g > 150 THEN 'TEAM' ELSE 'PRIVATE' END,
+                       (SELECT id FROM users WHERE username = 'bench-owner'),
+                       (SELECT id FROM teams WHERE name = CASE WHEN g <= 50 THEN 'Viewer team' ELSE 'Other team' END),
+                       now(), now(), false
+                FROM generate_series(1, ?) g""", PROJECTS);
+        jdbc.update("""
+                INSERT INTO project_members (project_id, user_id, role, joined_at)
+                SELECT p.id, u.id, 'contributor', now() FROM projects p, users u
+                WHERE u.email = ? AND substring(p.key from 3)::int BETWEEN 51 AND 60""", VIEWER);
+
+        // Word i is drawn with probability ~ 1/i; referencing g keeps the subqueries per row
+        String[] words = VOCABULARY.toArray(String[]::new);
+        String text = "(SELECT string_agg((?::text[])[floor(power(" + words.length + ", random()))::int], ' ') "
+                + "FROM generate_series(1, %s) n)";
+        String insert = """
+                INSERT INTO tasks (id, project_id, key, title, description, status, priority, time_spent_minutes, tags,
+                                   created_at, updated_at, archived)
+                SELECT gen_random_uuid(), p.ids[1 + g %% p.n], 'SB-' || g, %s, %s,
+                       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g %% 3], 'MEDIUM', 0,
+                       ARRAY[(?::text[])[1 + g %% 50]],
+                       now() - g * interval '1 second', now(), g %% 20 = 0
+                FROM generate_series(?, ?) g,
+                     (SELECT array_agg(id ORDER BY key) AS ids, count(*)::int AS n FROM projects) p
+                """.formatted(text.formatted("4 + g % 3"), text.formatted("25 + g % 3"));
+        for (long from = 1; from <= tasks; from += CHUNK) {
+            long to = Math.min(tasks, from + CHUNK - 1);
+            jdbc.update(insert, words, words, words, from, to);
+            System.out.println("  " + to + " tasks");
+        }
+        jdbc.update("""
+                INSERT INTO task_comments (id, task_id, author_id, content, created_at)
+                SELECT gen_random_uuid(), t.id, (SELECT id FROM users WHERE username = 'bench-owner'), %s, now()
+                FROM tasks t WHERE t.key LIKE '%%0'""".formatted(text.formatted("10 + length(t.key) % 2")), (Object) words);
+        jdbc.execute("VACUUM ANALYZE tasks");
+        System.out.println("Done");
+    }
+
+    private static List<String> vocabulary() {
+        String[] syllables = {"ka", "lo", "mi", "ren", "tor", "val", "pin", "dur", "bak", "zol", "fen", "gor"};
+        List<String> words = new ArrayList<>();
+        for (String first : syllables) {
+            for (String second : syllables) {
+                for (String third : syllables) {
+                    words.add(first + second + third);
+                }
+            }
+        }
+        return words;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,155 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.service.impl.TaskTypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookup latency against an in-memory index of one million tasks
+ * ({@code -Dbench.tasks}) spread over 200 projects, built the way the startup load builds it.
+ * <p>
+ * Titles use the same 1,728-word Zipf-like vocabulary as {@link TaskSearchBenchmark}; every
+ * tenth task is then updated, leaving dead documents behind as a running instance would.
+ * Lookups return the default ten results; the filtered ones are restricted to 60 of the
+ * 200 projects like a regular user's.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.TaskTypeaheadBenchmark}
+ * or from the IDE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TaskTypeaheadBenchmark {
+
+    private static final int PROJECTS = 200;
+    private static final int LIMIT = 10;
+
+    private static final String[] SYLLABLES =
+            {"ka", "lo", "mi", "ren", "tor", "val", "pin", "dur", "bak", "zol", "fen", "gor"};
+
+    private final List<String> vocabulary = vocabulary();
+
+    private TaskTypeaheadIndex index;
+    private Set<UUID> visibleProjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int tasks = Integer.getInteger("bench.tasks", 1_000_000);
+        Random random = new Random(42);
+
+        List<UUID> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(UUID.randomUUID());
+        }
+        visibleProjects = Set.copyOf(projects.subList(0, 60));
+
+        index = new TaskTypeaheadIndex();
+        int[] sequences = new int[PROJECTS];
+        List<UUID> ids = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            int project = i % PROJECTS;
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.put(new TaskTypeaheadIndex.Entry(id, projects.get(project), "SB" + (project + 1) + "-" + ++sequences[project],
+                    words(random, 4 + i % 3), List.of(vocabulary.get(i % 50))));
+        }
+        for (int i = 0; i < tasks; i += 10) {
+            int project = i % PROJECTS;
+            index.put(new TaskTypeaheadIndex.Entry(ids.get(i), projects.get(project), "SB" + (project + 1) + "-" + (i / PROJECTS + 1),
+                    words(random, 4 + i % 3), List.of(vocabulary.get(i % 50))));
+        }
+        System.out.println("Index: " + index.liveDocuments() + " live, " + index.deadDocuments() + " dead, "
+                + index.terms() + " terms");
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> keyPrefix() {
+        return index.search("sb12-34", visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> projectKeyOnly() {
+        return index.search("SB12-", visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> rareWordPrefix() {
+        return index.search(vocabulary.get(1500).substring(0, 5), visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> commonWordPrefix() {
+        return index.search(vocabulary.get(1).substring(0, 3), visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> shortPrefix() {
+        return index.search("k", visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> twoWords() {
+        return index.search(vocabulary.get(20) + " " + vocabulary.get(300).substring(0, 4), visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> twoRareWords() {
+        return index.search(vocabulary.get(900) + " " + vocabulary.get(1200).substring(0, 5), visibleProjects, LIMIT);
+    }
+
+    @Benchmark
+    public List<TaskTypeaheadIndex.Hit> adminCommonWordPrefix() {
+        return index.search(vocabulary.get(1).substring(0, 3), null, LIMIT);
+    }
+
+    // Word i is drawn with probability ~ 1/i
+    private String words(Random random, int count) {
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            int word = (int) Math.floor(Math.pow(vocabulary.size(), random.nextDouble()));
+            title.append(i > 0 ? " " : "").append(vocabulary.get(Math.min(word, vocabulary.size()) - 1));
+        }
+        return title.toString();
+    }
+
+    private static List<String> vocabulary() {
+        List<String> words = new ArrayList<>();
+        for (String first : SYLLABLES) {
+            for (String second : SYLLABLES) {
+                for (String third : SYLLABLES) {
+                    words.add(first + second + third);
+                }
+            }
+        }
+        return words;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TaskTypeaheadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
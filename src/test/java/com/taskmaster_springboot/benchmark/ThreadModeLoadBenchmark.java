@@ -0,0 +1,222 @@
+package com.taskmaster_springboot.benchmark;
+
+import com.taskmaster_springboot.TaskmasterSpringbootApplication;
+import com.taskmaster_springboot.service.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load against the task and notification read endpoints, with the application
+ * booted in-process once per execution mode: {@code platform} (Tomcat's bounded worker pool) and
+ * {@code virtual} ({@code spring.threads.virtual.enabled=true}). Each of {@code load.concurrency}
+ * clients sends its next request as soon as the previous one completes, cycling through a task
+ * page of a random project, a notification inbox page and the unread count, for
+ * {@code load.duration} seconds after {@code load.warmup} seconds of unmeasured traffic.
+ * <p>
+ * Reports throughput, latency percentiles and errors per endpoint, and the peak number of live
+ * platform threads in the JVM (clients run on virtual threads and add none).
+ * <p>
+ * Runs against the {@link TaskSearchBenchmark} dataset ({@code taskmaster_bench} on localhost by
+ * default, {@code -Dbench.jdbc-url}, {@code -Dbench.db-user}, {@code -Dbench.db-password}); run that
+ * benchmark once first. Notifications for the requesting user are added on the first run.
+ * {@code -Dload.modes=platform,virtual}, {@code -Dload.concurrency=200}, {@code -Dload.db-pool=10}
+ * and {@code -Dload.tomcat-threads=200} tune the run.
+ * <p>
+ * Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.taskmaster_springboot.benchmark.ThreadModeLoadBenchmark}
+ * or from the IDE.
+ */
+public class ThreadModeLoadBenchmark {
+
+    private static final String USER = "bench-admin@taskmaster.test";
+    private static final int NOTIFICATIONS = 2_000;
+
+    private static final String[] ENDPOINTS = {"task page", "notification page", "unread count"};
+
+    public static void main(String[] args) throws Exception {
+        List<String> modes = Arrays.asList(System.getProperty("load.modes", "platform,virtual").split(","));
+        List<Result> results = new ArrayList<>();
+        for (String mode : modes) {
+            results.add(run(mode.trim()));
+        }
+
+        System.out.printf("%n%-9s %-18s %9s %9s %9s %9s %9s %7s %8s%n",
+                "mode", "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "max ms", "errors", "threads");
+        for (Result result : results) {
+            for (int e = 0; e < ENDPOINTS.length; e++) {
+                long[] latencies = result.latencies()[e];
+                System.out.printf("%-9s %-18s %9d %9.0f %9.2f %9.2f %9.2f %7d %8d%n",
+                        result.mode(), ENDPOINTS[e], latencies.length, latencies.length / result.seconds(),
+                        percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0),
+                        result.errors()[e], result.peakThreads());
+            }
+            long total = Arrays.stream(result.latencies()).mapToLong(l -> l.length).sum();
+            System.out.printf("%-9s %-18s %9d %9.0f%n", result.mode(), "all", total, total / result.seconds());
+        }
+    }
+
+    private static Result run(String mode) throws Exception {
+        boolean virtual = switch (mode) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+        };
+        int concurrency = Integer.getInteger("load.concurrency", 200);
+        int warmup = Integer.getInteger("load.warmup", 10);
+        int duration = Integer.getInteger("load.duration", 30);
+
+        System.out.println("Starting application in " + mode + " mode...");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskmasterSpringbootApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + Integer.getInteger("load.tomcat-threads", 200),
+                        "--spring.datasource.hikari.maximum-pool-size=" + Integer.getInteger("load.db-pool", 10),
+                        "--spring.datasource.url=" + System.getProperty("bench.jdbc-url",
+                                "jdbc:postgresql://localhost:5432/taskmaster_bench"),
+                        "--spring.datasource.username=" + System.getProperty("bench.db-user", "postgres"),
+                        "--spring.datasource.password=" + System.getProperty("bench.db-password", "postgres"),
+                        "--jwt.secret=benchmark-secret-benchmark-secret-0123456789",
+                        "--app.tasks.typeahead.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        try {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            List<UUID> projects = jdbc.queryForList("SELECT id FROM projects", UUID.class);
+            if (projects.isEmpty()) {
+                throw new IllegalStateException("No projects in the database; run TaskSearchBenchmark first");
+            }
+            seedNotifications(jdbc);
+
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            String token = context.getBean(JwtService.class).generateToken(USER);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            System.out.println("Warming up for " + warmup + " s...");
+            drive(client, base, token, projects, concurrency, warmup, null);
+            System.out.println("Measuring " + concurrency + " clients for " + duration + " s...");
+            return drive(client, base, token, projects, concurrency, duration, mode);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result drive(HttpClient client, String base, String token, List<UUID> projects,
+                                int concurrency, int seconds, String mode) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        Recorder[] recorders = new Recorder[concurrency];
+        List<Thread> clients = new ArrayList<>(concurrency);
+        AtomicInteger next = new AtomicInteger();
+        for (int c = 0; c < concurrency; c++) {
+            Recorder recorder = recorders[c] = new Recorder();
+            clients.add(Thread.ofVirtual().name("load-client-", c).start(() -> {
+                while (System.nanoTime() < deadline) {
+                    int endpoint = next.getAndIncrement() % ENDPOINTS.length;
+                    String path = switch (endpoint) {
+                        case 0 -> "/api/v1/tasks/project/"
+                                + projects.get(ThreadLocalRandom.current().nextInt(projects.size())) + "/page";
+                        case 1 -> "/api/v1/notifications/page";
+                        default -> "/api/v1/notifications/unread-count";
+                    };
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                            .header("Authorization", "Bearer " + token)
+                            .timeout(Duration.ofSeconds(30))
+                            .build();
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+                    } catch (Exception e) {
+                        ok = false;
+                    }
+                    recorder.record(endpoint, System.nanoTime() - start, ok);
+                }
+            }));
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        for (Thread thread : clients) {
+            thread.join();
+        }
+        if (mode == null) {
+            return null;
+        }
+
+        long[][] latencies = new long[ENDPOINTS.length][];
+        long[] errors = new long[ENDPOINTS.length];
+        for (int e = 0; e < ENDPOINTS.length; e++) {
+            int endpoint = e;
+            latencies[e] = Arrays.stream(recorders).flatMapToLong(r -> Arrays.stream(r.latencies(endpoint))).sorted().toArray();
+            errors[e] = Arrays.stream(recorders).mapToLong(r -> r.errors[endpoint]).sum();
+        }
+        return new Result(mode, seconds, latencies, errors, threads.getPeakThreadCount());
+    }
+
+    private static void seedNotifications(JdbcTemplate jdbc) {
+        Long existing = jdbc.queryForObject("""
+                SELECT count(*) FROM notifications n JOIN users u ON u.id = n.user_id WHERE u.email = ?""",
+                Long.class, USER);
+        if (existing != null && existing >= NOTIFICATIONS) {
+            return;
+        }
+        jdbc.update("""
+                INSERT INTO notifications (id, user_id, type, channel, payload, is_read, created_at)
+                SELECT gen_random_uuid(), u.id, 'TASK_UPDATED', 'WEBSOCKET',
+                       jsonb_build_object('message', 'Bench notification ' || g), g % 3 = 0,
+                       now() - g * interval '1 minute'
+                FROM users u, generate_series(1, ?) g WHERE u.email = ?""", NOTIFICATIONS, USER);
+    }
+
+    /** Milliseconds. */
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record Result(String mode, double seconds, long[][] latencies, long[] errors, int peakThreads) {
+    }
+
+    /** Latencies of one client; only its own thread writes them. */
+    private static final class Recorder {
+        private final long[][] latencies = new long[ENDPOINTS.length][1024];
+        private final int[] counts = new int[ENDPOINTS.length];
+        private final long[] errors = new long[ENDPOINTS.length];
+
+        void record(int endpoint, long nanos, boolean ok) {
+            if (!ok) {
+                errors[endpoint]++;
+            }
+            if (counts[endpoint] == latencies[endpoint].length) {
+                latencies[endpoint] = Arrays.copyOf(latencies[endpoint], counts[endpoint] * 2);
+            }
+            latencies[endpoint][counts[endpoint]++] = nanos;
+        }
+
+        long[] latencies(int endpoint) {
+            return Arrays.copyOf(latencies[endpoint], counts[endpoint]);
+        }
+    }
+}
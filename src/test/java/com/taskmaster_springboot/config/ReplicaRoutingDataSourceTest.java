@@ -0,0 +1,147 @@
+package com.taskmaster_springboot.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two databases in one PostgreSQL container stand in for a primary and its replica; which one a
+ * transaction ran on shows in {@code current_database()}.
+ */
+@SpringBootTest(properties = "app.datasource.replicas.lag-check-interval=3600000")
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY = "test";
+    private static final String REPLICA = "replica";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName(PRIMARY);
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) throws SQLException {
+        execute("CREATE DATABASE " + REPLICA);
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        // The second replica does not exist, so it never passes a lag check
+        registry.add("app.datasource.replicas.urls", () -> replicaUrl(REPLICA) + "," + replicaUrl("missing"));
+    }
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void checkReplicas() {
+        replicaRoutingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @Order(1)
+    void readOnlyTransactionsRunOnAReplicaThatPassedTheLagCheck() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+        }
+        assertThat(currentDatabase(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    @Order(2)
+    void readsOfAClientThatJustWroteStayOnThePrimary() {
+        MockHttpServletResponse response = startRequest(new MockHttpServletRequest());
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+        currentDatabase(false);
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+
+        // Any node serving the client's next request sees the window in the cookie
+        Cookie primaryUntil = response.getCookie(ReplicaRoutingDataSource.PRIMARY_UNTIL_COOKIE);
+        assertThat(primaryUntil).isNotNull();
+        MockHttpServletRequest next = new MockHttpServletRequest();
+        next.setCookies(primaryUntil);
+        startRequest(next);
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+
+        startRequest(new MockHttpServletRequest());
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @Order(3)
+    void readsThatMustNotLagRunOnThePrimary() {
+        assertThat(ReplicaRoutingDataSource.readFromPrimary(() -> currentDatabase(true))).isEqualTo(PRIMARY);
+        assertThat(currentDatabase(true)).isEqualTo(REPLICA);
+    }
+
+    @Test
+    @Order(4)
+    void readsFallBackToThePrimaryWhenNoReplicaIsUsable() throws SQLException {
+        // Last, as the replica's pooled connections do not survive this
+        execute("ALTER DATABASE " + REPLICA + " ALLOW_CONNECTIONS false");
+        execute("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE datname = '" + REPLICA + "'");
+        replicaRoutingDataSource.checkReplicas();
+
+        assertThat(currentDatabase(true)).isEqualTo(PRIMARY);
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                (String) entityManager.createNativeQuery("SELECT current_database()").getSingleResult());
+    }
+
+    private static MockHttpServletResponse startRequest(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static String replicaUrl(String database) {
+        return postgres.getJdbcUrl().replace("/" + PRIMARY, "/" + database);
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
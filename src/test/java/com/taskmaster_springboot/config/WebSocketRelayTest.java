@@ -0,0 +1,146 @@
+package com.taskmaster_springboot.config;
+
+import com.taskmaster_springboot.TaskmasterSpringbootApplication;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.repository.UsersRepository;
+import com.taskmaster_springboot.service.JwtService;
+import com.taskmaster_springboot.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two application nodes share one broker: this test's context runs the embedded Artemis broker,
+ * a second node relays to it. A notification sent on the second node must reach a STOMP session
+ * connected to the first.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.websocket.broker=embedded")
+@Testcontainers(disabledWithoutDocker = true)
+class WebSocketRelayTest {
+
+    private static final int RELAY_PORT = freePort();
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.websocket.relay.port", () -> RELAY_PORT);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler brokerRelay;
+
+    @Test
+    void notificationSentOnAnotherNodeReachesTheSubscriber() throws Exception {
+        Users user = new Users();
+        user.setUsername("relay@taskmaster.test");
+        user.setEmail("relay@taskmaster.test");
+        user.setPassword("password-hash");
+        user.setFirstName("Relay");
+        user.setLastName("User");
+        usersRepository.save(user);
+
+        // CONNECT frames are refused until the relay's own session to the broker is up
+        awaitBrokerAvailable(brokerRelay);
+
+        BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new SimpleMessageConverter());
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + jwtService.generateToken(user.getEmail()));
+        StompSession session = client.connectAsync("ws://localhost:" + port + "/ws/notifications/websocket",
+                new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                }).get(10, TimeUnit.SECONDS);
+        session.subscribe("/user/queue/notifications", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                frames.add(new String((byte[]) payload, StandardCharsets.UTF_8));
+            }
+        });
+
+        try (ConfigurableApplicationContext nodeB = new SpringApplicationBuilder(TaskmasterSpringbootApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--app.websocket.broker=relay",
+                "--app.websocket.relay.port=" + RELAY_PORT,
+                "--app.activity-log.partitioning.enabled=false")) {
+            awaitBrokerAvailable(nodeB.getBean(StompBrokerRelayMessageHandler.class));
+            // Node B learns about the session on this node from the user registry broadcast, every 20s
+            SimpUserRegistry registryB = nodeB.getBean(SimpUserRegistry.class);
+            for (int i = 0; i < 60 && registryB.getUser(user.getEmail()) == null; i++) {
+                Thread.sleep(500);
+            }
+            assertThat(registryB.getUser(user.getEmail())).isNotNull();
+
+            nodeB.getBean(NotificationService.class).sendNotification(user.getUserId(), "TASK_ASSIGNED", "from node B");
+
+            assertThat(frames.poll(10, TimeUnit.SECONDS)).contains("from node B");
+        } finally {
+            session.disconnect();
+        }
+    }
+
+    private static void awaitBrokerAvailable(StompBrokerRelayMessageHandler handler) throws InterruptedException {
+        for (int i = 0; i < 40 && !handler.isBrokerAvailable(); i++) {
+            Thread.sleep(250);
+        }
+        assertThat(handler.isBrokerAvailable()).isTrue();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
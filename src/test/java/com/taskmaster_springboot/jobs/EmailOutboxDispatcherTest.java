@@ -0,0 +1,146 @@
+package com.taskmaster_springboot.jobs;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.taskmaster_springboot.model.EmailOutbox;
+import com.taskmaster_springboot.model.enums.EmailStatus;
+import com.taskmaster_springboot.repository.EmailOutboxRepository;
+import com.taskmaster_springboot.service.EmailService;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "spring.mail.username=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "app.mail.outbox.poll-interval=3600000",
+        "app.mail.outbox.batch-size=2"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxDispatcherTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private EmailOutboxDispatcher dispatcher;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailOutboxPurgeJob purgeJob;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearOutbox() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void queuedEmailsAreDeliveredInBatches() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.sendVerificationEmail("first@taskmaster.test", "1234");
+            emailService.sendVerificationEmail("second@taskmaster.test", "5678");
+            emailService.sendPasswordResetEmail("third@taskmaster.test", "reset-token");
+        });
+
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        int attempted = dispatcher.dispatchPending();
+
+        assertThat(attempted).isEqualTo(3);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received).extracting(message -> message.getAllRecipients()[0].toString())
+                .containsExactlyInAnyOrder("first@taskmaster.test", "second@taskmaster.test", "third@taskmaster.test");
+        assertThat(emailOutboxRepository.findAll())
+                .allSatisfy(email -> {
+                    assertThat(email.getStatus()).isEqualTo(EmailStatus.SENT);
+                    assertThat(email.getSentAt()).isNotNull();
+                    // Verification codes and reset links do not outlive delivery
+                    assertThat(email.getBody()).isEmpty();
+                });
+    }
+
+    @Test
+    void emailsQueuedInARolledBackTransactionAreNeverSent() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.sendVerificationEmail("ghost@taskmaster.test", "0000");
+            status.setRollbackOnly();
+        });
+
+        assertThat(dispatcher.dispatchPending()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void failedDeliveryIsRescheduledWithBackoff() {
+        transactionTemplate.executeWithoutResult(status ->
+                emailService.sendVerificationEmail("later@taskmaster.test", "4321"));
+        greenMail.stop();
+
+        Instant before = Instant.now();
+        dispatcher.dispatchPending();
+
+        List<EmailOutbox> outbox = emailOutboxRepository.findAll();
+        assertThat(outbox).singleElement().satisfies(email -> {
+            assertThat(email.getStatus()).isEqualTo(EmailStatus.PENDING);
+            assertThat(email.getAttempts()).isEqualTo(1);
+            assertThat(email.getNextAttemptAt()).isAfter(before);
+            assertThat(email.getLastError()).isNotBlank();
+        });
+    }
+
+    @Test
+    void purgeDeletesOnlyFinishedEmailsPastTheRetention() {
+        transactionTemplate.executeWithoutResult(status -> {
+            emailService.sendVerificationEmail("old-sent@taskmaster.test", "1111");
+            emailService.sendVerificationEmail("old-pending@taskmaster.test", "2222");
+        });
+        dispatcher.dispatchPending();
+        transactionTemplate.executeWithoutResult(status ->
+                emailService.sendVerificationEmail("recent@taskmaster.test", "3333"));
+        dispatcher.dispatchPending();
+
+        jdbcTemplate.update("UPDATE email_outbox SET created_at = now() - interval '31 days' WHERE recipient LIKE 'old-%'");
+        jdbcTemplate.update("UPDATE email_outbox SET status = 'PENDING' WHERE recipient = 'old-pending@taskmaster.test'");
+
+        purgeJob.purge();
+
+        assertThat(emailOutboxRepository.findAll())
+                .extracting(EmailOutbox::getRecipient)
+                .containsExactlyInAnyOrder("old-pending@taskmaster.test", "recent@taskmaster.test");
+    }
+}
@@ -0,0 +1,207 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.Projects;
+import com.taskmaster_springboot.model.Roles;
+import com.taskmaster_springboot.model.TaskComments;
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.model.TeamMembers;
+import com.taskmaster_springboot.model.TeamMembersId;
+import com.taskmaster_springboot.model.Teams;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.ProjectStatus;
+import com.taskmaster_springboot.model.enums.ProjectVisibility;
+import com.taskmaster_springboot.model.enums.RoleName;
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Each response-building lookup loads what its DTO needs in a single statement, with the
+ * second-level cache emptied so cached associations cannot hide extra queries.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class FetchPlanQueryCountTest {
+
+    private static final int COUNT = 10;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TeamMembersRepository teamMembersRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCommentsRepository taskCommentsRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Users> users = new ArrayList<>();
+    private UUID projectId;
+    private UUID taskId;
+
+    @BeforeEach
+    void seed() {
+        Roles role = new Roles();
+        role.setName(RoleName.USER);
+        entityManager.persist(role);
+
+        for (int i = 0; i < COUNT; i++) {
+            Users user = new Users();
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@taskmaster.test");
+            user.setPassword("password-hash");
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setRoles(Set.of(role));
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        List<Teams> teams = new ArrayList<>();
+        for (int i = 0; i < COUNT; i++) {
+            Teams team = Teams.builder().name("Team " + i).archived(false).build();
+            entityManager.persist(team);
+            teams.add(team);
+
+            TeamMembers member = new TeamMembers();
+            member.setId(new TeamMembersId(team.getId(), users.get(0).getUserId()));
+            entityManager.persist(member);
+        }
+
+        Projects project = Projects.builder()
+                .key("FP")
+                .name("Fetch Plans")
+                .team(teams.get(0))
+                .owner(users.get(0))
+                .status(ProjectStatus.ACTIVE)
+                .visibility(ProjectVisibility.PRIVATE)
+                .archived(false)
+                .build();
+        entityManager.persist(project);
+        projectId = project.getId();
+
+        Tasks task = Tasks.builder()
+                .project(project)
+                .key("FP-1")
+                .title("Task")
+                .status(TaskStatus.TODO)
+                .priority(TaskPriority.MEDIUM)
+                .assignee(users.get(1))
+                .reporter(users.get(0))
+                .timeSpentMinutes(0)
+                .archived(false)
+                .build();
+        entityManager.persist(task);
+        taskId = task.getId();
+
+        for (Users author : users) {
+            entityManager.persist(TaskComments.builder().task(task).author(author).content("comment").build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void teamListOfAUserIsASingleStatement() {
+        Statistics statistics = statistics();
+
+        List<TeamMembers> memberships = teamMembersRepository.findByUserId(users.get(0).getUserId());
+
+        assertThat(memberships).hasSize(COUNT);
+        assertThat(memberships).allSatisfy(tm -> assertThat(tm.getTeam().getName()).startsWith("Team "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskWithAssigneeIsASingleStatement() {
+        Statistics statistics = statistics();
+
+        Tasks task = taskRepository.findWithAssigneeById(taskId).orElseThrow();
+
+        assertThat(task.getAssignee().getFirstName()).isEqualTo("First1");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void taskCommentsWithAuthorsAreASingleStatement() {
+        Statistics statistics = statistics();
+
+        List<TaskComments> comments = taskCommentsRepository.findByTaskId(taskId);
+
+        assertThat(comments).hasSize(COUNT);
+        assertThat(comments).allSatisfy(c -> assertThat(c.getAuthor().getFirstName()).startsWith("First"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void userListWithRolesIsASingleStatement() {
+        Statistics statistics = statistics();
+
+        List<Users> all = usersRepository.findAllWithRoles();
+
+        assertThat(all).hasSize(COUNT);
+        assertThat(all).allSatisfy(u -> assertThat(u.getRoles()).extracting(Roles::getName).containsExactly(RoleName.USER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void projectDetailNeedsNoAssociations() {
+        Statistics statistics = statistics();
+
+        Projects project = projectRepository.findById(projectId).orElseThrow();
+
+        // The response only carries the owner and team ids, which the proxies hold
+        assertThat(project.getOwner().getUserId()).isEqualTo(users.get(0).getUserId());
+        assertThat(project.getTeam().getId()).isNotNull();
+        assertThat(Hibernate.isInitialized(project.getOwner())).isFalse();
+        assertThat(Hibernate.isInitialized(project.getTeam())).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
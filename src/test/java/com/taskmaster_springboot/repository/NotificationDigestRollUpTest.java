@@ -0,0 +1,173 @@
+package com.taskmaster_springboot.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmaster_springboot.model.Users;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class NotificationDigestRollUpTest {
+
+    private static final Instant NOW = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+    private static final Instant CUTOFF = NOW.minus(1, ChronoUnit.HOURS);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UUID userId;
+    private final UUID taskId = UUID.randomUUID();
+
+    @BeforeEach
+    void createUser() {
+        Users user = new Users();
+        user.setUsername("digest");
+        user.setEmail("digest@taskmaster.test");
+        user.setPassword("password-hash");
+        user.setFirstName("Digest");
+        user.setLastName("User");
+        entityManager.persist(user);
+        entityManager.flush();
+        userId = user.getUserId();
+    }
+
+    @Test
+    void firstMergeKeepsTheNewestRowAndLeavesYoungerRowsAlone() {
+        insert("TASK_UPDATED", taskId, "m1", minutesAgo(180), false);
+        insert("TASK_UPDATED", taskId, "m2", minutesAgo(150), false);
+        UUID newest = insert("TASK_UPDATED", taskId, "m3", minutesAgo(120), false);
+        UUID fresh = insert("TASK_UPDATED", taskId, "fresh", minutesAgo(10), false);
+        insert("TASK_UPDATED", UUID.randomUUID(), "other task", minutesAgo(180), false);
+        insert("TASK_COMMENTED", taskId, "other type", minutesAgo(180), false);
+        insert("TASK_UPDATED", taskId, "read", minutesAgo(180), true);
+
+        List<UUID> deletedFor = notificationRepository.rollUpTaskDigests(CUTOFF, 100);
+
+        assertThat(deletedFor).containsExactly(userId, userId);
+        JsonNode digest = payload(newest);
+        assertThat(digest.get("digest").asBoolean()).isTrue();
+        assertThat(digest.get("message").asText()).isEqualTo("m3");
+        assertThat(digest.get("count").asInt()).isEqualTo(3);
+        assertThat(instant(digest.get("firstAt"))).isEqualTo(minutesAgo(180));
+        assertThat(instant(digest.get("lastAt"))).isEqualTo(minutesAgo(120));
+        assertThat(messages(digest)).containsExactly("m3", "m2", "m1");
+        assertThat(payload(fresh).has("digest")).isFalse();
+        assertThat(count()).isEqualTo(5);
+    }
+
+    @Test
+    void reMergeCarriesTheDigestsCountFirstAtAndMessagesOver() {
+        insert("TASK_UPDATED", taskId, "m1", minutesAgo(300), false);
+        insert("TASK_UPDATED", taskId, "m2", minutesAgo(290), false);
+        UUID digest = insert("TASK_UPDATED", taskId, "m3", minutesAgo(280), false);
+        notificationRepository.rollUpTaskDigests(CUTOFF, 100);
+
+        UUID next = insert("TASK_UPDATED", taskId, "m4", minutesAgo(200), false);
+        notificationRepository.rollUpTaskDigests(CUTOFF, 100);
+
+        assertThat(exists(digest)).isFalse();
+        JsonNode merged = payload(next);
+        assertThat(merged.get("count").asInt()).isEqualTo(4);
+        assertThat(instant(merged.get("firstAt"))).isEqualTo(minutesAgo(300));
+        assertThat(instant(merged.get("lastAt"))).isEqualTo(minutesAgo(200));
+        assertThat(messages(merged)).containsExactly("m4", "m3", "m2", "m1");
+
+        insert("TASK_UPDATED", taskId, "m5", minutesAgo(190), false);
+        insert("TASK_UPDATED", taskId, "m6", minutesAgo(180), false);
+        UUID last = insert("TASK_UPDATED", taskId, "m7", minutesAgo(170), false);
+        notificationRepository.rollUpTaskDigests(CUTOFF, 100);
+
+        JsonNode remerged = payload(last);
+        assertThat(remerged.get("count").asInt()).isEqualTo(7);
+        assertThat(instant(remerged.get("firstAt"))).isEqualTo(minutesAgo(300));
+        assertThat(messages(remerged)).containsExactly("m7", "m6", "m5", "m4", "m3");
+        assertThat(count()).isEqualTo(1);
+    }
+
+    @Test
+    void rowsAtOrAfterTheCutoffAreNotMerged() {
+        insert("TASK_UPDATED", taskId, "old", minutesAgo(120), false);
+        insert("TASK_UPDATED", taskId, "at cutoff", CUTOFF, false);
+        insert("TASK_UPDATED", taskId, "new", minutesAgo(5), false);
+
+        assertThat(notificationRepository.rollUpTaskDigests(CUTOFF, 100)).isEmpty();
+        assertThat(count()).isEqualTo(3);
+    }
+
+    private UUID insert(String type, UUID task, String message, Instant createdAt, boolean read) {
+        try {
+            String payload = objectMapper.writeValueAsString(Map.of("taskId", task.toString(), "message", message));
+            return jdbcTemplate.queryForObject("INSERT INTO notifications (id, user_id, type, channel, payload, is_read, created_at) " +
+                            "VALUES (gen_random_uuid(), ?, ?, 'WEBSOCKET', CAST(? AS jsonb), ?, ?) RETURNING id",
+                    UUID.class, userId, type, payload, read, Timestamp.from(createdAt));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode payload(UUID id) {
+        try {
+            return objectMapper.readTree(jdbcTemplate.queryForObject(
+                    "SELECT payload::text FROM notifications WHERE id = ?", String.class, id));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean exists(UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT count(*) > 0 FROM notifications WHERE id = ?", Boolean.class, id));
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM notifications WHERE user_id = ?", Long.class, userId);
+    }
+
+    private static List<String> messages(JsonNode digest) {
+        List<String> messages = new ArrayList<>();
+        digest.get("recentMessages").forEach(message -> messages.add(message.asText()));
+        return messages;
+    }
+
+    private static Instant instant(JsonNode timestamp) {
+        return OffsetDateTime.parse(timestamp.asText()).toInstant();
+    }
+
+    private static Instant minutesAgo(long minutes) {
+        return NOW.minus(minutes, ChronoUnit.MINUTES);
+    }
+}
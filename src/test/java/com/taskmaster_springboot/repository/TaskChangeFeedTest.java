@@ -0,0 +1,185 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.dto.response.TaskChangeEventDTO;
+import com.taskmaster_springboot.dto.response.TaskChangeFeedDTO;
+import com.taskmaster_springboot.model.Projects;
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.model.Teams;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.ProjectStatus;
+import com.taskmaster_springboot.model.enums.ProjectVisibility;
+import com.taskmaster_springboot.model.enums.TaskChangeType;
+import com.taskmaster_springboot.service.impl.TaskChangeFeed;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class TaskChangeFeedTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskChangeFeed taskChangeFeed;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private TeamsRepository teamsRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    private Users owner;
+    private Teams team;
+
+    @BeforeEach
+    void createOwner() {
+        String name = "feed-" + UUID.randomUUID();
+        owner = new Users();
+        owner.setUsername(name);
+        owner.setEmail(name + "@taskmaster.test");
+        owner.setPassword("password-hash");
+        owner.setFirstName("Feed");
+        owner.setLastName("Owner");
+        owner = usersRepository.save(owner);
+        team = teamsRepository.save(Teams.builder().name(name).archived(false).build());
+    }
+
+    @Test
+    void findSinceFlagsAResyncOnlyWhenNeededEventsWerePurged() {
+        Projects project = project();
+        for (int i = 1; i <= 5; i++) {
+            Tasks task = task(project);
+            int n = i;
+            transactionTemplate.executeWithoutResult(status ->
+                    taskChangeFeed.record(task, TaskChangeType.UPDATED, Map.of("title", "Title " + n), owner.getUserId()));
+        }
+        jdbcTemplate.update("DELETE FROM task_change_events WHERE project_id = ? AND version <= 2", project.getId());
+
+        // The oldest kept event directly follows the client's version
+        assertThat(versions(taskChangeFeed.findSince(project.getId(), 2, 10))).containsExactly(3L, 4L, 5L);
+        TaskChangeFeedDTO page = taskChangeFeed.findSince(project.getId(), 2, 2);
+        assertThat(versions(page)).containsExactly(3L, 4L);
+        assertThat(page.getHasMore()).isTrue();
+
+        // Version 2 is gone
+        TaskChangeFeedDTO resync = taskChangeFeed.findSince(project.getId(), 1, 10);
+        assertThat(resync.getResyncRequired()).isTrue();
+        assertThat(resync.getEvents()).isEmpty();
+        assertThat(resync.getCurrentVersion()).isEqualTo(5);
+
+        jdbcTemplate.update("DELETE FROM task_change_events WHERE project_id = ?", project.getId());
+        TaskChangeFeedDTO upToDate = taskChangeFeed.findSince(project.getId(), 5, 10);
+        assertThat(upToDate.getResyncRequired()).isFalse();
+        assertThat(upToDate.getEvents()).isEmpty();
+        assertThat(taskChangeFeed.findSince(project.getId(), 4, 10).getResyncRequired()).isTrue();
+    }
+
+    @Test
+    void recordAllNumbersEachProjectsChangesInOrderAndSendsAfterCommit() {
+        Projects first = project();
+        Projects second = project();
+        Tasks a = task(first);
+        Tasks b = task(second);
+        Tasks unchanged = task(first);
+        Tasks c = task(first);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskChangeFeed.recordAll(List.of(
+                    new TaskChangeFeed.Change(a, TaskChangeType.UPDATED, Map.of("title", "A")),
+                    new TaskChangeFeed.Change(b, TaskChangeType.UPDATED, Map.of("title", "B")),
+                    new TaskChangeFeed.Change(unchanged, TaskChangeType.UPDATED, Map.of()),
+                    new TaskChangeFeed.Change(c, TaskChangeType.ARCHIVED, Map.of("archived", true))), owner.getUserId());
+            verifyNoInteractions(messagingTemplate);
+        });
+
+        ArgumentCaptor<Object> sent = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, times(3)).convertAndSend(anyString(), sent.capture());
+        assertThat(sent.getAllValues())
+                .extracting(message -> ((TaskChangeEventDTO) message).getTaskId(),
+                        message -> ((TaskChangeEventDTO) message).getVersion())
+                .containsExactly(
+                        tuple(a.getId(), 1L),
+                        tuple(b.getId(), 1L),
+                        tuple(c.getId(), 2L));
+
+        assertThat(taskChangeFeed.currentVersion(first.getId())).isEqualTo(2);
+        assertThat(taskChangeFeed.currentVersion(second.getId())).isEqualTo(1);
+        assertThat(taskChangeFeed.findSince(first.getId(), 0, 10).getEvents())
+                .extracting(TaskChangeEventDTO::getTaskId).containsExactly(a.getId(), c.getId());
+    }
+
+    @Test
+    void recordAllInARolledBackTransactionLeavesNoTrace() {
+        Projects project = project();
+        Tasks task = task(project);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskChangeFeed.recordAll(List.of(
+                    new TaskChangeFeed.Change(task, TaskChangeType.UPDATED, Map.of("title", "Lost"))), owner.getUserId());
+            status.setRollbackOnly();
+        });
+
+        verifyNoInteractions(messagingTemplate);
+        assertThat(taskChangeFeed.currentVersion(project.getId())).isZero();
+        assertThat(taskChangeFeed.findSince(project.getId(), 0, 10).getEvents()).isEmpty();
+    }
+
+    private Projects project() {
+        String key = "F" + Long.toString(System.nanoTime() % 1_000_000_000L, 36).toUpperCase();
+        return projectRepository.save(Projects.builder()
+                .key(key)
+                .name("Feed " + key)
+                .team(team)
+                .owner(owner)
+                .status(ProjectStatus.ACTIVE)
+                .visibility(ProjectVisibility.PRIVATE)
+                .archived(false)
+                .build());
+    }
+
+    // Events only refer to the task by id, so the task need not be stored
+    private static Tasks task(Projects project) {
+        return Tasks.builder().id(UUID.randomUUID()).project(project).build();
+    }
+
+    private static List<Long> versions(TaskChangeFeedDTO feed) {
+        assertThat(feed.getResyncRequired()).isFalse();
+        return feed.getEvents().stream().map(TaskChangeEventDTO::getVersion).toList();
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.Projects;
+import com.taskmaster_springboot.model.TaskComments;
+import com.taskmaster_springboot.model.Tasks;
+import com.taskmaster_springboot.model.Teams;
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.model.enums.ProjectStatus;
+import com.taskmaster_springboot.model.enums.ProjectVisibility;
+import com.taskmaster_springboot.model.enums.TaskPriority;
+import com.taskmaster_springboot.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskRepositoryQueryCountTest {
+
+    private static final int TASK_COUNT = 1_000;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID projectId;
+
+    @BeforeEach
+    void seedProject() {
+        List<Users> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Users user = new Users();
+            user.setUsername("user" + i);
+            user.setEmail("user" + i + "@taskmaster.test");
+            user.setPassword("password-hash");
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        Teams team = Teams.builder().name("Query Count").archived(false).build();
+        entityManager.persist(team);
+
+        Projects project = Projects.builder()
+                .key("QC")
+                .name("Query Count")
+                .team(team)
+                .owner(users.get(0))
+                .status(ProjectStatus.ACTIVE)
+                .visibility(ProjectVisibility.PRIVATE)
+                .archived(false)
+                .build();
+        entityManager.persist(project);
+        projectId = project.getId();
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Tasks task = Tasks.builder()
+                    .project(project)
+                    .key("QC-" + (i + 1))
+                    .title("Task " + i)
+                    .status(TaskStatus.TODO)
+                    .priority(TaskPriority.MEDIUM)
+                    .assignee(users.get(i % users.size()))
+                    .reporter(users.get(0))
+                    .timeSpentMinutes(0)
+                    .archived(false)
+                    .build();
+            entityManager.persist(task);
+
+            if (i % 10 == 0) {
+                entityManager.persist(TaskComments.builder()
+                        .task(task)
+                        .author(users.get(0))
+                        .content("comment")
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        taskRepository.reconcileCommentCounts();
+        entityManager.clear();
+    }
+
+    @Test
+    void taskListPageIsASingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskView> page = taskRepository.findPage(TaskPageCriteria.builder()
+                .projectId(projectId)
+                .limit(TASK_COUNT + 1)
+                .build());
+
+        assertThat(page).hasSize(TASK_COUNT);
+        assertThat(page).allSatisfy(task -> assertThat(task.assigneeFirstName()).startsWith("First"));
+        assertThat(page.stream().mapToInt(TaskView::commentCount).sum()).isEqualTo(TASK_COUNT / 10);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,134 @@
+package com.taskmaster_springboot.repository;
+
+import com.taskmaster_springboot.model.Users;
+import com.taskmaster_springboot.service.impl.UnreadNotificationCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The cache TTL is long enough here that every count read comes from the cache unless an
+ * adjustment or invalidation changed it.
+ */
+@SpringBootTest(properties = "app.notifications.unread-cache.ttl=10m")
+@Testcontainers(disabledWithoutDocker = true)
+class UnreadNotificationCounterTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private UnreadNotificationCounter counter;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+
+    @BeforeEach
+    void createUser() {
+        String name = "unread-" + UUID.randomUUID();
+        Users user = new Users();
+        user.setUsername(name);
+        user.setEmail(name + "@taskmaster.test");
+        user.setPassword("password-hash");
+        user.setFirstName("Unread");
+        user.setLastName("User");
+        userId = usersRepository.save(user).getUserId();
+    }
+
+    @Test
+    void adjustmentIsAppliedAfterCommit() {
+        assertThat(counter.get(userId)).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertUnread();
+            counter.adjust(userId, 1);
+            assertThat(counter.get(userId)).isZero();
+        });
+
+        assertThat(counter.get(userId)).isEqualTo(1);
+        assertThat(unreadInDatabase()).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackAdjustmentDoesNotDriftTheCount() {
+        assertThat(counter.get(userId)).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertUnread();
+            counter.adjust(userId, 1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(counter.get(userId)).isZero();
+        assertThat(unreadInDatabase()).isZero();
+    }
+
+    @Test
+    void invalidationReloadsTheCountAfterCommit() {
+        assertThat(counter.get(userId)).isZero();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            insertUnread();
+            insertUnread();
+            counter.invalidate(userId);
+            assertThat(counter.get(userId)).isZero();
+        });
+
+        assertThat(counter.get(userId)).isEqualTo(2);
+    }
+
+    @Test
+    void rolledBackInvalidationKeepsTheCachedCount() {
+        insertUnread();
+        assertThat(counter.get(userId)).isEqualTo(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE notifications SET is_read = true WHERE user_id = ?", userId);
+            counter.invalidate(userId);
+            status.setRollbackOnly();
+        });
+
+        assertThat(counter.get(userId)).isEqualTo(1);
+        assertThat(unreadInDatabase()).isEqualTo(1);
+    }
+
+    @Test
+    void adjustmentOnlyTouchesCachedCountsAndNeverGoesBelowZero() {
+        insertUnread();
+        counter.adjust(userId, 5);
+        assertThat(counter.get(userId)).isEqualTo(1);
+
+        counter.adjust(userId, -3);
+        assertThat(counter.get(userId)).isZero();
+    }
+
+    private void insertUnread() {
+        jdbcTemplate.update("INSERT INTO notifications (id, user_id, type, channel, payload, is_read, created_at) " +
+                "VALUES (gen_random_uuid(), ?, 'TASK_ASSIGNED', 'WEBSOCKET', '{}', false, now())", userId);
+    }
+
+    private long unreadInDatabase() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM notifications WHERE user_id = ? AND is_read = false",
+                Long.class, userId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.taskmaster_springboot.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskTypeaheadIndexTest {
+
+    private static final UUID PROJECT = UUID.randomUUID();
+    private static final UUID OTHER_PROJECT = UUID.randomUUID();
+
+    private final TaskTypeaheadIndex index = new TaskTypeaheadIndex();
+
+    @Test
+    void findsTasksByWordPrefixNewestFirst() {
+        UUID older = put("WEB-1", "Fix login redirect", null);
+        UUID newer = put("WEB-2", "Login page layout", List.of("frontend"));
+
+        assertThat(ids("log")).containsExactly(newer, older);
+        assertThat(ids("front")).containsExactly(newer);
+        assertThat(ids("nothing")).isEmpty();
+    }
+
+    @Test
+    void rePutReplacesTheIndexedVersion() {
+        UUID task = put("WEB-1", "Draft release notes", List.of("docs"));
+
+        index.put(entry(task, "WEB-1", "Publish changelog", null));
+
+        assertThat(ids("draft")).isEmpty();
+        assertThat(ids("docs")).isEmpty();
+        assertThat(ids("changelog")).containsExactly(task);
+        assertThat(index.liveDocuments()).isEqualTo(1);
+        assertThat(index.deadDocuments()).isEqualTo(1);
+        assertThat(index.matches(entry(task, "WEB-1", "Publish changelog", null))).isTrue();
+        assertThat(index.matches(entry(task, "WEB-1", "Draft release notes", List.of("docs")))).isFalse();
+    }
+
+    @Test
+    void removedTasksLeaveTombstonesThatAreNeverReturned() {
+        UUID kept = put("WEB-1", "Cache warmup", null);
+        UUID removed = put("WEB-2", "Cache eviction", null);
+
+        index.remove(removed);
+        index.remove(UUID.randomUUID());
+
+        assertThat(index.contains(removed)).isFalse();
+        assertThat(ids("cache")).containsExactly(kept);
+        assertThat(index.search("web-2", null, 10)).isEmpty();
+        assertThat(index.liveDocuments()).isEqualTo(1);
+        assertThat(index.deadDocuments()).isEqualTo(1);
+
+        // A removed task can come back, e.g. when it is unarchived
+        index.put(entry(removed, "WEB-2", "Cache eviction", null));
+        assertThat(ids("cache")).containsExactly(removed, kept);
+    }
+
+    @Test
+    void keepsEveryTaskFindableAcrossManyRemovals() {
+        // Exercises the id lookup table: growth and backward-shift deletion
+        List<UUID> tasks = new ArrayList<>();
+        for (int i = 1; i <= 5_000; i++) {
+            tasks.add(put("BIG-" + i, "Task " + i, null));
+        }
+        for (int i = 0; i < tasks.size(); i += 2) {
+            index.remove(tasks.get(i));
+        }
+        for (int i = 1; i < tasks.size(); i += 4) {
+            index.put(entry(tasks.get(i), "BIG-" + (i + 1), "Renamed " + (i + 1), null));
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            assertThat(index.contains(tasks.get(i))).isEqualTo(i % 2 == 1);
+        }
+        assertThat(index.liveDocuments()).isEqualTo(2_500);
+        assertThat(index.deadDocuments()).isEqualTo(2_500 + 1_250);
+        assertThat(ids("renamed")).hasSize(10);
+    }
+
+    @Test
+    void everyQueryWordMustPrefixATitleOrTagWord() {
+        UUID titleOnly = put("WEB-1", "Payment retry backend", null);
+        UUID titleAndTag = put("WEB-2", "Payment screen", List.of("backend", "ux"));
+        UUID tagOnly = put("WEB-3", "Checkout", List.of("payment", "backend"));
+
+        assertThat(ids("pay back")).containsExactlyInAnyOrder(titleOnly, titleAndTag, tagOnly);
+        // "ux" is the rarest word and only a tag; the other word is still checked against tags too
+        assertThat(ids("ux back")).containsExactly(titleAndTag);
+        assertThat(ids("back check")).containsExactly(tagOnly);
+        assertThat(ids("pay screen ux")).containsExactly(titleAndTag);
+        assertThat(ids("pay frontend")).isEmpty();
+    }
+
+    @Test
+    void matchesKeysByProjectKeyAndNumberPrefix() {
+        UUID one = put("WEB-1", "First", null);
+        UUID twelve = put("WEB-12", "Twelfth", null);
+        UUID hundredTwenty = put("WEB-120", "Later", null);
+        put("API-12", "Other project key", null);
+
+        assertThat(ids("web-12")).containsExactly(twelve, hundredTwenty);
+        assertThat(ids("WEB-")).containsExactly(hundredTwenty, twelve, one);
+    }
+
+    @Test
+    void limitsResultsToVisibleProjects() {
+        UUID visible = put("WEB-1", "Shared words", null);
+        index.put(new TaskTypeaheadIndex.Entry(UUID.randomUUID(), OTHER_PROJECT, "OPS-1", "Shared words", null));
+
+        assertThat(index.search("shared", Set.of(PROJECT), 10))
+                .extracting(TaskTypeaheadIndex.Hit::id).containsExactly(visible);
+        assertThat(index.search("shared", Set.of(), 10)).isEmpty();
+        assertThat(index.search("shared", null, 10)).hasSize(2);
+    }
+
+    private UUID put(String key, String title, List<String> tags) {
+        UUID id = UUID.randomUUID();
+        index.put(entry(id, key, title, tags));
+        return id;
+    }
+
+    private static TaskTypeaheadIndex.Entry entry(UUID id, String key, String title, List<String> tags) {
+        return new TaskTypeaheadIndex.Entry(id, PROJECT, key, title, tags);
+    }
+
+    private List<UUID> ids(String query) {
+        return index.search(query, null, 10).stream().map(TaskTypeaheadIndex.Hit::id).toList();
+    }
+}
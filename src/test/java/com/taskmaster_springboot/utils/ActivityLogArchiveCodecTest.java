@@ -0,0 +1,104 @@
+package com.taskmaster_springboot.utils;
+
+import com.taskmaster_springboot.repository.ActivityLogPageCriteria;
+import com.taskmaster_springboot.repository.ActivityLogView;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ActivityLogArchiveCodecTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T00:00:00.123456Z");
+    private static final UUID ALICE = UUID.randomUUID();
+    private static final UUID BOB = UUID.randomUUID();
+    private static final UUID TASK = UUID.randomUUID();
+
+    private final List<ActivityLogArchiveStore.ArchivedRow> rows = List.of(
+            row(1, 0, ALICE, "Alice", "A", "task.created", "task", TASK, "{\"title\":\"Ünïcode\"}"),
+            row(2, 60, BOB, "Bob", null, "task.updated", "task", TASK, null),
+            row(3, 60, ALICE, "Alice", "A", "project.created", "project", UUID.randomUUID(), "{}"),
+            row(4, 120, null, null, null, "user.login", null, null, null));
+
+    @Test
+    void roundTripsEveryColumnOfTheReadModel() {
+        List<ActivityLogView> decoded = decode(rows, criteria());
+
+        assertThat(decoded).hasSize(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ActivityLogArchiveStore.ArchivedRow row = rows.get(i);
+            assertThat(decoded.get(i)).isEqualTo(new ActivityLogView(row.id(), row.actorId(), row.actorFirstName(),
+                    row.actorLastName(), row.action(), row.entityType(), row.entityId(), row.data(), row.createdAt()));
+        }
+    }
+
+    @Test
+    void keepsMicrosecondPrecision() {
+        assertThat(decode(rows, criteria()).get(0).createdAt()).isEqualTo(START);
+        assertThat(ActivityLogArchiveCodec.fromMicros(ActivityLogArchiveCodec.toMicros(Instant.parse("1969-12-31T23:59:59.999999Z"))))
+                .isEqualTo(Instant.parse("1969-12-31T23:59:59.999999Z"));
+    }
+
+    @Test
+    void filtersOnDictionaryEncodedColumns() {
+        assertThat(decode(rows, criteria().actorId(ALICE)))
+                .extracting(ActivityLogView::id).containsExactly(1L, 3L);
+        assertThat(decode(rows, criteria().action("task.updated")))
+                .extracting(ActivityLogView::id).containsExactly(2L);
+        assertThat(decode(rows, criteria().entityType("task").entityId(TASK)))
+                .extracting(ActivityLogView::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void appliesTimeRangeAndKeysetBound() {
+        assertThat(decode(rows, criteria().from(START.plusSeconds(60)).to(START.plusSeconds(120))))
+                .extracting(ActivityLogView::id).containsExactly(2L, 3L);
+        // Same created_at as row 3: only lower ids come before it
+        assertThat(decode(rows, criteria().beforeCreatedAt(START.plusSeconds(60)).beforeId(3L)))
+                .extracting(ActivityLogView::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void encodesAFullRowGroup() {
+        List<ActivityLogArchiveStore.ArchivedRow> group = new ArrayList<>();
+        for (int i = 0; i < ActivityLogArchiveStore.ROW_GROUP_SIZE; i++) {
+            group.add(row(i, i, i % 2 == 0 ? ALICE : BOB, "Name", "Last", "task.updated", "task", TASK, "{\"n\":" + i + "}"));
+        }
+
+        byte[] payload = ActivityLogArchiveCodec.encode(group);
+
+        assertThat(decode(group, criteria())).hasSize(group.size());
+        // Dictionary-encoded repetitive columns compress far below the raw row size
+        assertThat(payload.length).isLessThan(group.size() * 20);
+    }
+
+    @Test
+    void rejectsPayloadsOfAnotherFormat() {
+        assertThatThrownBy(() -> ActivityLogArchiveCodec.decode(new byte[]{1, 2, 3}, criteria().build(), new ArrayList<>()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static List<ActivityLogView> decode(List<ActivityLogArchiveStore.ArchivedRow> rows,
+                                                ActivityLogPageCriteria.ActivityLogPageCriteriaBuilder criteria) {
+        List<ActivityLogView> matches = new ArrayList<>();
+        ActivityLogArchiveCodec.decode(ActivityLogArchiveCodec.encode(rows), criteria.build(), matches);
+        return matches;
+    }
+
+    private static ActivityLogPageCriteria.ActivityLogPageCriteriaBuilder criteria() {
+        return ActivityLogPageCriteria.builder().limit(100);
+    }
+
+    private static ActivityLogArchiveStore.ArchivedRow row(long id, long secondsAfterStart, UUID actor, String first,
+                                                           String last, String action, String type, UUID entity,
+                                                           String data) {
+        return new ActivityLogArchiveStore.ArchivedRow(id, START.plusSeconds(secondsAfterStart), actor, first, last,
+                action, type, entity, data, "10.0.0.1", "JUnit");
+    }
+}